@@ -0,0 +1,62 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Seven card evaluation with and without a HandCache in front; every benchmarked hand fits in
+ * the cache, so {@code cached} measures hits only.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheBenchmark {
+
+    @Param({"1024", "65536"})
+    public int handsCount;
+
+    private long[] masks;
+    private LongToIntFunction cache;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var random = new SplittableRandom(HandGenerator.SEED);
+        masks = new long[handsCount];
+        cache = Hands.newSevenCardCache(4 * handsCount);
+
+        for (int i = 0; i < handsCount; i++) {
+            while (Long.bitCount(masks[i]) < 7) {
+                masks[i] |= 1L << (16 * random.nextInt(4) + random.nextInt(13));
+            }
+
+            cache.applyAsInt(masks[i]);
+        }
+    }
+
+    @Benchmark
+    public int direct() {
+        return Hands.evaluateSeven(masks[next++ & (handsCount - 1)]);
+    }
+
+    @Benchmark
+    public int cached() {
+        return cache.applyAsInt(masks[next++ & (handsCount - 1)]);
+    }
+}
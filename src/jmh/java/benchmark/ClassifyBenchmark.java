@@ -0,0 +1,57 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassifyBenchmark {
+    private static final int HANDS_COUNT = 1 << 10;
+
+    @Param({
+        "HIGH_CARD",
+        "PAIR",
+        "TWO_PAIRS",
+        "THREE_OF_A_KIND",
+        "STRAIGHT",
+        "FLUSH",
+        "FULL_HOUSE",
+        "FOUR_OF_A_KIND",
+        "STRAIGHT_FLUSH",
+        "ROYAL_FLASH"
+    })
+    public String handType;
+
+    private Object[] hands;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var generator = new HandGenerator(HandGenerator.SEED);
+        hands = new Object[HANDS_COUNT];
+
+        for (int i = 0; i < HANDS_COUNT; i++) {
+            hands[i] = Hands.newHand(generator.nextInput(handType));
+        }
+    }
+
+    @Benchmark
+    public Enum<?> getHandType() {
+        return Hands.getHandType(hands[next++ & (HANDS_COUNT - 1)]);
+    }
+}
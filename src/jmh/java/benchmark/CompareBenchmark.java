@@ -0,0 +1,55 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompareBenchmark {
+    private static final int PAIRS_COUNT = 1 << 10;
+
+    @Param({"SAME_TYPE", "DIFFERENT_TYPE"})
+    public String pairing;
+
+    private Object[] first;
+    private Object[] second;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var generator = new HandGenerator(HandGenerator.SEED);
+        first = new Object[PAIRS_COUNT];
+        second = new Object[PAIRS_COUNT];
+
+        for (int i = 0; i < PAIRS_COUNT; i++) {
+            first[i] = Hands.newHand(generator.nextInput());
+            final var firstType = Hands.getHandType(first[i]);
+
+            do {
+                second[i] = Hands.newHand(generator.nextInput());
+            } while ((Hands.getHandType(second[i]) == firstType) != "SAME_TYPE".equals(pairing));
+        }
+    }
+
+    @Benchmark
+    public int compareTo() {
+        final var pair = next++ & (PAIRS_COUNT - 1);
+
+        return Hands.compare(first[pair], second[pair]);
+    }
+}
@@ -0,0 +1,86 @@
+package benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fixed seed hand generator, so every benchmark run measures the same hands.
+ */
+final class HandGenerator {
+    static final long SEED = 0x5EEDL;
+
+    private static final String RATINGS = "23456789TJQKA";
+    private static final String SUITS = "SHDC";
+
+    private final SplittableRandom random;
+    private final int[] deck = new int[52];
+
+    HandGenerator(final long seed) {
+        this.random = new SplittableRandom(seed);
+
+        for (int card = 0; card < deck.length; card++) {
+            deck[card] = card;
+        }
+    }
+
+    String nextInput() {
+        final var input = new StringBuilder(14);
+
+        for (int card = 0; card < 5; card++) {
+            final var swap = card + random.nextInt(deck.length - card);
+            final var index = deck[swap];
+            deck[swap] = deck[card];
+            deck[card] = index;
+
+            if (card > 0) {
+                input.append(' ');
+            }
+
+            input.append(RATINGS.charAt(index >>> 2)).append(SUITS.charAt(index & 3));
+        }
+
+        return input.toString();
+    }
+
+    String nextInput(final String handType) {
+        if ("ROYAL_FLASH".equals(handType)) {
+            return straightFlush(RATINGS.length() - 5);
+        }
+
+        if ("STRAIGHT_FLUSH".equals(handType)) {
+            return straightFlush(random.nextInt(RATINGS.length() - 5));
+        }
+
+        while (true) {
+            final var input = nextInput();
+
+            if (Hands.getHandType(Hands.newHand(input)).name().equals(handType)) {
+                return input;
+            }
+        }
+    }
+
+    Object[] nextHands(final int count) {
+        final var hands = new Object[count];
+
+        for (int i = 0; i < count; i++) {
+            hands[i] = Hands.newHand(nextInput());
+        }
+
+        return hands;
+    }
+
+    private String straightFlush(final int lowestRating) {
+        final var suit = SUITS.charAt(random.nextInt(SUITS.length()));
+        final var input = new StringBuilder(14);
+
+        for (int rating = lowestRating; rating < lowestRating + 5; rating++) {
+            if (input.length() > 0) {
+                input.append(' ');
+            }
+
+            input.append(RATINGS.charAt(rating)).append(suit);
+        }
+
+        return input.toString();
+    }
+}
@@ -0,0 +1,101 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.function.LongToIntFunction;
+
+/**
+ * The application classes live in the unnamed package, which a named package can not import,
+ * and JMH refuses benchmarks in the unnamed package. Static final method handles are inlined
+ * by the JIT, so going through them does not distort the measurements.
+ */
+final class Hands {
+    private static final MethodHandle NEW_HAND;
+    private static final MethodHandle GET_HAND_TYPE;
+    private static final MethodHandle RADIX_SORT;
+    private static final MethodHandle EVALUATE_SEVEN;
+    private static final MethodHandle NEW_SEVEN_CARD_CACHE;
+
+    static {
+        try {
+            final var lookup = MethodHandles.publicLookup();
+            final var pokerHand = Class.forName("PokerHand");
+            final var handType = Class.forName("HandType");
+
+            NEW_HAND = lookup
+                .findConstructor(pokerHand, MethodType.methodType(void.class, String.class))
+                .asType(MethodType.methodType(Object.class, String.class));
+            GET_HAND_TYPE = lookup
+                .findStatic(handType, "getHandType", MethodType.methodType(handType, pokerHand))
+                .asType(MethodType.methodType(Enum.class, Object.class));
+            RADIX_SORT = lookup
+                .findStatic(
+                    Class.forName("StrengthSorter"),
+                    "sort",
+                    MethodType.methodType(List.class, List.class, boolean.class)
+                );
+            EVALUATE_SEVEN = lookup.findStatic(
+                Class.forName("SevenCardEvaluator"),
+                "evaluate",
+                MethodType.methodType(int.class, long.class)
+            );
+            final var handCache = Class.forName("HandCache");
+            NEW_SEVEN_CARD_CACHE = lookup
+                .findStatic(handCache, "sevenCard", MethodType.methodType(handCache, int.class))
+                .asType(MethodType.methodType(LongToIntFunction.class, int.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private Hands() {
+    }
+
+    static Object newHand(final String cardsInput) {
+        try {
+            return (Object) NEW_HAND.invokeExact(cardsInput);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Enum<?> getHandType(final Object hand) {
+        try {
+            return (Enum<?>) GET_HAND_TYPE.invokeExact(hand);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static List<Object> radixSort(final List<Object> hands) {
+        try {
+            return (List<Object>) RADIX_SORT.invokeExact(hands, false);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static int compare(final Object first, final Object second) {
+        return ((Comparable<Object>) first).compareTo(second);
+    }
+
+    static int evaluateSeven(final long mask) {
+        try {
+            return (int) EVALUATE_SEVEN.invokeExact(mask);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static LongToIntFunction newSevenCardCache(final int capacity) {
+        try {
+            return (LongToIntFunction) NEW_SEVEN_CARD_CACHE.invokeExact(capacity);
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParseBenchmark {
+    private static final int INPUTS_COUNT = 1 << 12;
+
+    private String[] inputs;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        final var generator = new HandGenerator(HandGenerator.SEED);
+        inputs = new String[INPUTS_COUNT];
+
+        for (int i = 0; i < INPUTS_COUNT; i++) {
+            inputs[i] = generator.nextInput();
+        }
+    }
+
+    @Benchmark
+    public Object construct() {
+        return Hands.newHand(inputs[next++ & (INPUTS_COUNT - 1)]);
+    }
+}
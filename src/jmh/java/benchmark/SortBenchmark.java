@@ -0,0 +1,58 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx12g")
+public class SortBenchmark {
+
+    @Param({"1000", "1000000", "10000000"})
+    public int size;
+
+    private Object[] hands;
+    private List<Object> unsorted;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        hands = new HandGenerator(HandGenerator.SEED).nextHands(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void copy() {
+        unsorted = new ArrayList<>(Arrays.asList(hands));
+    }
+
+    @Benchmark
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public List<Object> collectionsSort() {
+        Collections.sort((List) unsorted);
+
+        return unsorted;
+    }
+
+    @Benchmark
+    public List<Object> strengthRadixSort() {
+        return Hands.radixSort(unsorted);
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Classifies many five card hands at once from struct-of-arrays columns: for every hand the
+ * ratings it holds in each suit, as in the {@link CardMask} suit lanes.
+ *
+ * <p>Hands must hold five distinct cards. Categories are derived from the columns alone: the
+ * number of distinct ratings, whether one suit holds every rating, whether the ratings form a run
+ * of five and whether a rating is held in three or four suits. When the build includes the
+ * {@code vector} profile and the {@code jdk.incubator.vector} module is present, the same steps
+ * run on the Vector API across many hands per instruction; otherwise a scalar loop is used.
+ */
+public final class BatchClassifier {
+    private static final int ROYAL_RATINGS = 0x1F << (CardRating.ACE.ordinal() - 4);
+    private static final int STRAIGHT_RUN = 0x1F;
+    private static final Columns IMPLEMENTATION = loadImplementation();
+
+    private BatchClassifier() {
+    }
+
+    /**
+     * Writes the {@link HandType} ordinal of the first {@code count} hands of the columns.
+     */
+    public static void classify(
+        final int[] spades,
+        final int[] hearts,
+        final int[] diamonds,
+        final int[] clubs,
+        final int[] handTypes,
+        final int count
+    ) {
+        IMPLEMENTATION.classify(spades, hearts, diamonds, clubs, handTypes, count);
+    }
+
+    /**
+     * Classifies five card {@link CardMask}s, splitting them into suit columns first.
+     */
+    public static int[] classify(final long[] masks) {
+        final var count = masks.length;
+        final var spades = new int[count];
+        final var hearts = new int[count];
+        final var diamonds = new int[count];
+        final var clubs = new int[count];
+
+        for (int hand = 0; hand < count; hand++) {
+            spades[hand] = CardMask.suitRatings(masks[hand], 0);
+            hearts[hand] = CardMask.suitRatings(masks[hand], 1);
+            diamonds[hand] = CardMask.suitRatings(masks[hand], 2);
+            clubs[hand] = CardMask.suitRatings(masks[hand], 3);
+        }
+
+        final var handTypes = new int[count];
+        classify(spades, hearts, diamonds, clubs, handTypes, count);
+
+        return handTypes;
+    }
+
+    public static boolean isVectorized() {
+        return !(IMPLEMENTATION instanceof Scalar);
+    }
+
+    static void classifyScalar(
+        final int[] spades,
+        final int[] hearts,
+        final int[] diamonds,
+        final int[] clubs,
+        final int[] handTypes,
+        final int from,
+        final int to
+    ) {
+        for (int hand = from; hand < to; hand++) {
+            handTypes[hand] = classify(spades[hand], hearts[hand], diamonds[hand], clubs[hand]);
+        }
+    }
+
+    static int classify(final int spades, final int hearts, final int diamonds, final int clubs) {
+        final var ratings = spades | hearts | diamonds | clubs;
+        final var distinct = Integer.bitCount(ratings);
+
+        if (distinct == 5) {
+            final var flush = ratings == spades || ratings == hearts || ratings == diamonds || ratings == clubs;
+            final var straight = ratings == (ratings & -ratings) * STRAIGHT_RUN;
+
+            if (flush && straight) {
+                return ratings == ROYAL_RATINGS ? HandType.ROYAL_FLASH.ordinal() : HandType.STRAIGHT_FLUSH.ordinal();
+            }
+
+            if (flush) {
+                return HandType.FLUSH.ordinal();
+            }
+
+            return straight ? HandType.STRAIGHT.ordinal() : HandType.HIGH_CARD.ordinal();
+        }
+
+        if (distinct == 4) {
+            return HandType.PAIR.ordinal();
+        }
+
+        if (distinct == 3) {
+            final var trips = (spades & hearts & diamonds)
+                | (spades & hearts & clubs)
+                | (spades & diamonds & clubs)
+                | (hearts & diamonds & clubs);
+
+            return trips != 0 ? HandType.THREE_OF_A_KIND.ordinal() : HandType.TWO_PAIRS.ordinal();
+        }
+
+        return (spades & hearts & diamonds & clubs) != 0
+            ? HandType.FOUR_OF_A_KIND.ordinal()
+            : HandType.FULL_HOUSE.ordinal();
+    }
+
+    private static Columns loadImplementation() {
+        try {
+            return (Columns) Class.forName("VectorBatchClassifier").getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return new Scalar();
+        }
+    }
+
+    interface Columns {
+        void classify(int[] spades, int[] hearts, int[] diamonds, int[] clubs, int[] handTypes, int count);
+    }
+
+    private static final class Scalar implements Columns {
+        @Override
+        public void classify(
+            final int[] spades,
+            final int[] hearts,
+            final int[] diamonds,
+            final int[] clubs,
+            final int[] handTypes,
+            final int count
+        ) {
+            classifyScalar(spades, hearts, diamonds, clubs, handTypes, 0, count);
+        }
+    }
+}
@@ -1,6 +1,20 @@
-public class Card {
-    private CardRating rating;
-    private CardSuit suit;
+/**
+ * Immutable playing card. {@link #of(CardRating, CardSuit)} returns one shared instance per card;
+ * equal cards have the same rating and suit whatever the instance.
+ */
+public final class Card {
+    private static final Card[] CARDS = new Card[CardCode.CARDS_COUNT];
+
+    static {
+        for (final CardRating rating : CardRating.values()) {
+            for (final CardSuit suit : CardSuit.values()) {
+                CARDS[CardCode.index(rating.ordinal(), suit.ordinal())] = new Card(rating, suit);
+            }
+        }
+    }
+
+    private final CardRating rating;
+    private final CardSuit suit;
 
     public Card(
         final CardRating rating,
@@ -10,6 +24,10 @@ public class Card {
         this.suit = suit;
     }
 
+    public static Card of(final CardRating rating, final CardSuit suit) {
+        return CARDS[CardCode.index(rating.ordinal(), suit.ordinal())];
+    }
+
     public CardRating getRating() {
         return rating;
     }
@@ -18,6 +36,26 @@ public class Card {
         return suit;
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        if (!(other instanceof Card)) {
+            return false;
+        }
+
+        final var card = (Card) other;
+
+        return rating == card.rating && suit == card.suit;
+    }
+
+    @Override
+    public int hashCode() {
+        return CardCode.index(rating.ordinal(), suit.ordinal());
+    }
+
     @Override
     public String toString() {
         return "Card{" +
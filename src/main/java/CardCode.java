@@ -0,0 +1,67 @@
+/**
+ * Primitive card encodings used by the bulk paths instead of {@link Card} objects.
+ *
+ * <p>A card index is {@code rating.ordinal() * 4 + suit.ordinal()}, so indexes 0-51 sort by
+ * rating. The packed form is the evaluator layout described in {@link HandEvaluator} and the
+ * mask bit is {@code suit.ordinal() * 16 + rating.ordinal()}, which keeps every suit in its
+ * own 16 bit lane of a {@link CardMask}.
+ */
+public final class CardCode {
+    public static final int CARDS_COUNT = 52;
+    public static final int SUIT_LANE_BITS = 16;
+
+    private static final CardRating[] RATINGS = CardRating.values();
+    private static final CardSuit[] SUITS = CardSuit.values();
+    private static final int[] PRIMES = {2, 3, 5, 7, 11, 13, 17, 19, 23, 29, 31, 37, 41};
+    private static final int[] PACKED = new int[CARDS_COUNT];
+
+    static {
+        for (int index = 0; index < CARDS_COUNT; index++) {
+            final var rating = rating(index);
+
+            PACKED[index] = (1 << (16 + rating))
+                | (1 << (12 + suit(index)))
+                | (rating << 8)
+                | PRIMES[rating];
+        }
+    }
+
+    private CardCode() {
+    }
+
+    public static int index(final int rating, final int suit) {
+        return rating * 4 + suit;
+    }
+
+    public static int index(final Card card) {
+        return index(card.getRating().ordinal(), card.getSuit().ordinal());
+    }
+
+    public static int rating(final int index) {
+        return index >>> 2;
+    }
+
+    public static int suit(final int index) {
+        return index & 3;
+    }
+
+    public static int packed(final int index) {
+        return PACKED[index];
+    }
+
+    public static long bit(final int index) {
+        return 1L << (suit(index) * SUIT_LANE_BITS + rating(index));
+    }
+
+    public static int indexOfBit(final int bitPosition) {
+        return index(bitPosition % SUIT_LANE_BITS, bitPosition / SUIT_LANE_BITS);
+    }
+
+    public static Card toCard(final int index) {
+        return Card.of(RATINGS[rating(index)], SUITS[suit(index)]);
+    }
+
+    public static String toText(final int index) {
+        return String.valueOf(RATINGS[rating(index)].getDesignation()) + SUITS[suit(index)].getValue();
+    }
+}
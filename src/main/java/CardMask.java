@@ -0,0 +1,171 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands stored as a {@code long} with one bit per card, see {@link CardCode#bit(int)}.
+ * A mask holds a set of cards, so repeated cards of a {@link PokerHand} collapse into one bit.
+ */
+public final class CardMask {
+    public static final long EMPTY = 0L;
+
+    private static final long SUIT_LANE = (1L << CardRating.values().length) - 1;
+
+    public static final long DECK = SUIT_LANE
+        | SUIT_LANE << CardCode.SUIT_LANE_BITS
+        | SUIT_LANE << (2 * CardCode.SUIT_LANE_BITS)
+        | SUIT_LANE << (3 * CardCode.SUIT_LANE_BITS);
+
+    private CardMask() {
+    }
+
+    public static long of(final Card... cards) {
+        return of(List.of(cards));
+    }
+
+    public static long of(final List<Card> cards) {
+        var mask = EMPTY;
+
+        for (final Card card : cards) {
+            mask |= CardCode.bit(CardCode.index(card));
+        }
+
+        return mask;
+    }
+
+    public static long of(final PokerHand hand) {
+        return of(hand.getCards());
+    }
+
+    public static long ofIndexes(final int... indexes) {
+        var mask = EMPTY;
+
+        for (final int index : indexes) {
+            mask |= CardCode.bit(index);
+        }
+
+        return mask;
+    }
+
+    /**
+     * Parses any number of distinct cards separated by single spaces, e.g. {@code "AS KD"}.
+     */
+    public static long parse(final CharSequence text) {
+        var mask = EMPTY;
+
+        var position = 0;
+
+        while (position < text.length()) {
+            if (position + 2 > text.length()) {
+                throw new HandParseException(position, "Incomplete card");
+            }
+
+            final var rating = HandParser.ratingOf(text.charAt(position));
+            final var suit = HandParser.suitOf(text.charAt(position + 1));
+
+            if (rating < 0 || suit < 0) {
+                throw new HandParseException(position, text.subSequence(position, position + 2) + " is not a card");
+            }
+
+            final var bit = CardCode.bit(CardCode.index(rating, suit));
+
+            if ((mask & bit) != 0) {
+                throw new HandParseException(position, "Repeated card " + text.subSequence(position, position + 2));
+            }
+
+            mask |= bit;
+            position += 2;
+
+            if (position < text.length()) {
+                if (text.charAt(position) != ' ' || position + 1 == text.length()) {
+                    throw new HandParseException(position, "Cards must be separated by a single space");
+                }
+
+                position++;
+            }
+        }
+
+        return mask;
+    }
+
+    public static boolean contains(final long mask, final int index) {
+        return (mask & CardCode.bit(index)) != 0;
+    }
+
+    public static int size(final long mask) {
+        return Long.bitCount(mask);
+    }
+
+    public static int suitRatings(final long mask, final int suit) {
+        return (int) ((mask >>> (suit * CardCode.SUIT_LANE_BITS)) & SUIT_LANE);
+    }
+
+    public static int ratings(final long mask) {
+        return suitRatings(mask, 0) | suitRatings(mask, 1) | suitRatings(mask, 2) | suitRatings(mask, 3);
+    }
+
+    public static int toIndexes(final long mask, final int[] destination, final int offset) {
+        var remaining = mask;
+        var position = offset;
+
+        while (remaining != 0) {
+            destination[position++] = CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining));
+            remaining &= remaining - 1;
+        }
+
+        return position - offset;
+    }
+
+    public static List<Card> toCards(final long mask) {
+        final var cards = new ArrayList<Card>(size(mask));
+        var remaining = mask;
+
+        while (remaining != 0) {
+            cards.add(CardCode.toCard(CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining))));
+            remaining &= remaining - 1;
+        }
+
+        return cards;
+    }
+
+    public static PokerHand toPokerHand(final long mask) {
+        return new PokerHand(toCards(mask));
+    }
+
+    public static int evaluate(final long mask) {
+        if (size(mask) != 5) {
+            throw new IllegalArgumentException("Hand must contains 5 cards");
+        }
+
+        var remaining = mask;
+        final var c1 = nextPacked(remaining);
+        remaining &= remaining - 1;
+        final var c2 = nextPacked(remaining);
+        remaining &= remaining - 1;
+        final var c3 = nextPacked(remaining);
+        remaining &= remaining - 1;
+        final var c4 = nextPacked(remaining);
+        remaining &= remaining - 1;
+
+        return HandEvaluator.evaluate(c1, c2, c3, c4, nextPacked(remaining));
+    }
+
+    public static String toString(final long mask) {
+        final var text = new StringBuilder();
+        var remaining = mask;
+
+        while (remaining != 0) {
+            if (text.length() > 0) {
+                text.append(' ');
+            }
+
+            text.append(CardCode.toText(CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining))));
+            remaining &= remaining - 1;
+        }
+
+        return text.toString();
+    }
+
+    private static int nextPacked(final long remaining) {
+        return CardCode.packed(CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining)));
+    }
+}
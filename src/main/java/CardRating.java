@@ -13,6 +13,14 @@ public enum CardRating {
     KING('K', 13),
     ACE('A', 14);
 
+    private static final CardRating[] BY_DESIGNATION = new CardRating[128];
+
+    static {
+        for (final CardRating cardValue : values()) {
+            BY_DESIGNATION[cardValue.designation] = cardValue;
+        }
+    }
+
     private final char designation;
     private final int value;
 
@@ -33,11 +41,10 @@ public enum CardRating {
     }
 
     public static CardRating getByValue(final char value) {
+        final var cardValue = value < BY_DESIGNATION.length ? BY_DESIGNATION[value] : null;
 
-        for (final CardRating cardValue : CardRating.values()) {
-            if (cardValue.getDesignation() == value) {
-                return cardValue;
-            }
+        if (cardValue != null) {
+            return cardValue;
         }
 
         throw new IllegalArgumentException(value + " not math any of card rating value");
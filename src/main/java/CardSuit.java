@@ -4,6 +4,14 @@ public enum CardSuit {
     DIAMONDS('D'),
     CLUBS('C');
 
+    private static final CardSuit[] BY_VALUE = new CardSuit[128];
+
+    static {
+        for (final CardSuit suit : values()) {
+            BY_VALUE[suit.value] = suit;
+        }
+    }
+
     private final char value;
 
     CardSuit(final char value) {
@@ -15,11 +23,10 @@ public enum CardSuit {
     }
 
     public static CardSuit getByValue(final char value) {
+        final var suit = value < BY_VALUE.length ? BY_VALUE[value] : null;
 
-        for (final CardSuit suit : CardSuit.values()) {
-            if (suit.getValue() == value) {
-                return suit;
-            }
+        if (suit != null) {
+            return suit;
         }
 
         throw new IllegalArgumentException(value + " not math any of card suit value");
@@ -0,0 +1,265 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Win, tie and loss equity of Texas Hold'em hole cards against each other.
+ *
+ * <p>Boards with few remaining runouts are enumerated exhaustively, the rest are sampled. Work is
+ * split into batches that each fill their own {@link EquityTally}; Monte Carlo batches draw from
+ * generators split off the seed in batch order, so results for a seed do not depend on the number
+ * of threads. Seven card hands are evaluated by {@link SevenCardEvaluator} unless another
+ * evaluator, such as a {@link HandCache}, is supplied.
+ */
+public class EquityCalculator implements AutoCloseable {
+    public static final long DEFAULT_EXHAUSTIVE_LIMIT = 2_000_000;
+
+    private static final int BOARD_SIZE = 5;
+    private static final int BATCH_SAMPLES = 10_000;
+    private static final int ROUND_BATCHES = 16;
+
+    private final ExecutorService executor;
+    private final long exhaustiveLimit;
+    private final LongToIntFunction evaluator;
+
+    public EquityCalculator(final int threads, final long exhaustiveLimit) {
+        this(threads, exhaustiveLimit, SevenCardEvaluator::evaluate);
+    }
+
+    public EquityCalculator(final int threads, final long exhaustiveLimit, final LongToIntFunction evaluator) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads count must be positive");
+        }
+
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "equity-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.exhaustiveLimit = exhaustiveLimit;
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * Enumerates every runout when there are at most {@code exhaustiveLimit} of them and samples
+     * up to {@code maxSamples} boards otherwise, stopping early once every player's margin of
+     * error drops to {@code targetMargin}.
+     */
+    public EquityResult calculate(
+        final long[] holeCards,
+        final long board,
+        final long deadCards,
+        final long maxSamples,
+        final long seed,
+        final double targetMargin
+    ) {
+        final var deck = remainingDeck(holeCards, board, deadCards);
+        final var runouts = combinations(deck.length, BOARD_SIZE - CardMask.size(board));
+
+        if (runouts <= exhaustiveLimit) {
+            return enumerate(holeCards, board, deadCards);
+        }
+
+        return simulate(holeCards, board, deadCards, maxSamples, seed, targetMargin);
+    }
+
+    public EquityResult enumerate(final long[] holeCards, final long board, final long deadCards) {
+        final var deck = remainingDeck(holeCards, board, deadCards);
+        final var missing = BOARD_SIZE - CardMask.size(board);
+        final var tasks = new ArrayList<Callable<EquityTally>>();
+
+        if (missing == 0) {
+            tasks.add(() -> {
+                final var tally = new EquityTally(holeCards.length, evaluator);
+                tally.showdown(holeCards, board);
+                return tally;
+            });
+        }
+
+        for (int first = 0; missing > 0 && first <= deck.length - missing; first++) {
+            final var firstCard = first;
+
+            tasks.add(() -> {
+                final var tally = new EquityTally(holeCards.length, evaluator);
+                enumerate(tally, holeCards, deck, firstCard + 1, missing - 1, board | CardCode.bit(deck[firstCard]));
+                return tally;
+            });
+        }
+
+        return new EquityResult(run(tasks, holeCards.length), true);
+    }
+
+    public EquityResult simulate(
+        final long[] holeCards,
+        final long board,
+        final long deadCards,
+        final long maxSamples,
+        final long seed,
+        final double targetMargin
+    ) {
+        final var deck = remainingDeck(holeCards, board, deadCards);
+        final var missing = BOARD_SIZE - CardMask.size(board);
+        final var random = new SplittableRandom(seed);
+        final var total = new EquityTally(holeCards.length, evaluator);
+
+        while (total.trials < maxSamples) {
+            final var tasks = new ArrayList<Callable<EquityTally>>();
+            var scheduled = total.trials;
+
+            for (int batch = 0; batch < ROUND_BATCHES && scheduled < maxSamples; batch++) {
+                final var samples = (int) Math.min(BATCH_SAMPLES, maxSamples - scheduled);
+                final var batchRandom = random.split();
+                scheduled += samples;
+
+                tasks.add(() -> sample(holeCards, board, deck.clone(), missing, samples, batchRandom, evaluator));
+            }
+
+            total.merge(run(tasks, holeCards.length));
+
+            if (isPreciseEnough(total, targetMargin)) {
+                break;
+            }
+        }
+
+        return new EquityResult(total, false);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static void enumerate(
+        final EquityTally tally,
+        final long[] holeCards,
+        final int[] deck,
+        final int from,
+        final int missing,
+        final long board
+    ) {
+        if (missing == 0) {
+            tally.showdown(holeCards, board);
+            return;
+        }
+
+        for (int card = from; card <= deck.length - missing; card++) {
+            enumerate(tally, holeCards, deck, card + 1, missing - 1, board | CardCode.bit(deck[card]));
+        }
+    }
+
+    private static EquityTally sample(
+        final long[] holeCards,
+        final long board,
+        final int[] deck,
+        final int missing,
+        final int samples,
+        final SplittableRandom random,
+        final LongToIntFunction evaluator
+    ) {
+        final var tally = new EquityTally(holeCards.length, evaluator);
+
+        for (int sample = 0; sample < samples; sample++) {
+            var runout = board;
+
+            for (int card = 0; card < missing; card++) {
+                final var swap = card + random.nextInt(deck.length - card);
+                final var index = deck[swap];
+                deck[swap] = deck[card];
+                deck[card] = index;
+                runout |= CardCode.bit(index);
+            }
+
+            tally.showdown(holeCards, runout);
+        }
+
+        return tally;
+    }
+
+    private static boolean isPreciseEnough(final EquityTally tally, final double targetMargin) {
+        if (targetMargin <= 0) {
+            return false;
+        }
+
+        for (int player = 0; player < tally.shares.length; player++) {
+            final var equity = tally.shares[player] / tally.trials;
+
+            if (EquityResult.marginOfError(equity, tally.trials) > targetMargin) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private EquityTally run(final List<Callable<EquityTally>> tasks, final int playersCount) {
+        final var total = new EquityTally(playersCount);
+
+        try {
+            for (final Future<EquityTally> future : executor.invokeAll(tasks)) {
+                total.merge(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Equity calculation interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Equity calculation failed", e.getCause());
+        }
+
+        return total;
+    }
+
+    private static int[] remainingDeck(final long[] holeCards, final long board, final long deadCards) {
+        if (holeCards.length < 2) {
+            throw new IllegalArgumentException("Equity needs at least 2 players");
+        }
+
+        if (CardMask.size(board) > BOARD_SIZE) {
+            throw new IllegalArgumentException("Board can not have more than 5 cards");
+        }
+
+        var used = board;
+
+        for (final long hole : holeCards) {
+            if (CardMask.size(hole) != 2) {
+                throw new IllegalArgumentException("Every player must hold 2 cards");
+            }
+
+            if ((used & hole) != 0) {
+                throw new IllegalArgumentException("Cards are dealt twice: " + CardMask.toString(used & hole));
+            }
+
+            used |= hole;
+        }
+
+        if ((used & deadCards) != 0) {
+            throw new IllegalArgumentException("Dead cards are in play: " + CardMask.toString(used & deadCards));
+        }
+
+        final var remaining = CardMask.DECK & ~(used | deadCards);
+        final var deck = new int[CardMask.size(remaining)];
+
+        if (deck.length < BOARD_SIZE - CardMask.size(board)) {
+            throw new IllegalArgumentException("Not enough cards left to complete the board");
+        }
+
+        CardMask.toIndexes(remaining, deck, 0);
+
+        return deck;
+    }
+
+    private static long combinations(final int n, final int k) {
+        var result = 1L;
+
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+
+        return result;
+    }
+}
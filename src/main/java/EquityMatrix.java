@@ -0,0 +1,216 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Equity of every combination of one {@link HandRange} against every combination of another on a
+ * given flop, turn or river.
+ *
+ * <p>Each runout is evaluated once per combination, then the strengths are reused by all pairs of
+ * combinations sharing that runout. Rows are split across the fork-join pool, so every cell is
+ * accumulated by a single thread.
+ */
+public final class EquityMatrix {
+    private static final int BOARD_SIZE = 5;
+    private static final int MIN_BOARD_SIZE = 3;
+    private static final int RUNOUTS_PER_TASK = 16;
+    private static final int ROWS_PER_TASK = 8;
+    // Negative, so that the sign bit tells a conflicting runout apart from any strength
+    private static final int CONFLICT = -1;
+
+    private final HandRange rows;
+    private final HandRange columns;
+    private final int[] shares;
+    private final int[] runouts;
+
+    private EquityMatrix(final HandRange rows, final HandRange columns, final int[] shares, final int[] runouts) {
+        this.rows = rows;
+        this.columns = columns;
+        this.shares = shares;
+        this.runouts = runouts;
+    }
+
+    /**
+     * Enumerates every runout of the board. Combinations holding a board or dead card are dropped
+     * from both ranges; pairs of combinations sharing a card are left empty.
+     */
+    public static EquityMatrix calculate(
+        final HandRange hero,
+        final HandRange villain,
+        final long board,
+        final long deadCards
+    ) {
+        return calculate(hero, villain, board, deadCards, SevenCardEvaluator::evaluate);
+    }
+
+    /**
+     * Same as {@link #calculate(HandRange, HandRange, long, long)} with seven card hands evaluated
+     * by the given evaluator, for example a {@link HandCache} shared between calculations.
+     */
+    public static EquityMatrix calculate(
+        final HandRange hero,
+        final HandRange villain,
+        final long board,
+        final long deadCards,
+        final LongToIntFunction evaluator
+    ) {
+        final var boardSize = CardMask.size(board);
+
+        if (boardSize < MIN_BOARD_SIZE || boardSize > BOARD_SIZE) {
+            throw new IllegalArgumentException("Board must have from 3 to 5 cards");
+        }
+
+        final var rows = hero.without(board | deadCards);
+        final var columns = villain.without(board | deadCards);
+        final var boards = runouts(board, board | deadCards, BOARD_SIZE - boardSize);
+        final var rowStrengths = strengths(rows, boards, evaluator);
+        final var columnStrengths = strengths(columns, boards, evaluator);
+        final var rowsCount = rows.size();
+        final var columnsCount = columns.size();
+        final var shares = new int[rowsCount * columnsCount];
+        final var runouts = new int[rowsCount * columnsCount];
+
+        PokerHands.forEachRange(rowsCount, ROWS_PER_TASK, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                final var offset = row * columnsCount;
+
+                for (int runout = 0; runout < boards.length; runout++) {
+                    final var strength = rowStrengths[runout * rowsCount + row];
+
+                    if (strength == CONFLICT) {
+                        continue;
+                    }
+
+                    final var columnOffset = runout * columnsCount;
+
+                    for (int column = 0; column < columnsCount; column++) {
+                        final var opponentStrength = columnStrengths[columnOffset + column];
+                        final var difference = opponentStrength - strength;
+                        final var dealt = (opponentStrength >>> 31) ^ 1;
+
+                        // Branch free 2 for a win, 1 for a tie and 0 for a loss
+                        shares[offset + column] += dealt * ((difference >>> 31) + ((difference - 1) >>> 31));
+                        runouts[offset + column] += dealt;
+                    }
+                }
+
+                final var combination = rows.get(row);
+
+                for (int column = 0; column < columnsCount; column++) {
+                    if ((columns.get(column) & combination) != 0) {
+                        shares[offset + column] = 0;
+                        runouts[offset + column] = 0;
+                    }
+                }
+            }
+        });
+
+        return new EquityMatrix(rows, columns, shares, runouts);
+    }
+
+    public HandRange getRows() {
+        return rows;
+    }
+
+    public HandRange getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of runouts both combinations were dealt, zero when they share a card.
+     */
+    public int getRunouts(final int row, final int column) {
+        return runouts[row * columns.size() + column];
+    }
+
+    /**
+     * Returns the equity of the row combination against the column combination, ties counting as
+     * half, or {@code NaN} when they share a card.
+     */
+    public double getEquity(final int row, final int column) {
+        final var index = row * columns.size() + column;
+
+        return runouts[index] == 0 ? Double.NaN : shares[index] / (2.0 * runouts[index]);
+    }
+
+    /**
+     * Returns the equity of the row combination against the whole column range.
+     */
+    public double getRowEquity(final int row) {
+        return equity(row * columns.size(), (row + 1) * columns.size());
+    }
+
+    /**
+     * Returns the equity of the whole row range against the whole column range.
+     */
+    public double getEquity() {
+        return equity(0, shares.length);
+    }
+
+    private double equity(final int from, final int to) {
+        long totalShares = 0;
+        long totalRunouts = 0;
+
+        for (int i = from; i < to; i++) {
+            totalShares += shares[i];
+            totalRunouts += runouts[i];
+        }
+
+        return totalRunouts == 0 ? Double.NaN : totalShares / (2.0 * totalRunouts);
+    }
+
+    private static int[] strengths(final HandRange range, final long[] boards, final LongToIntFunction evaluator) {
+        final var size = range.size();
+        final var strengths = new int[boards.length * size];
+
+        PokerHands.forEachRange(boards.length, RUNOUTS_PER_TASK, (from, to) -> {
+            for (int runout = from; runout < to; runout++) {
+                final var board = boards[runout];
+
+                for (int i = 0; i < size; i++) {
+                    final var combination = range.get(i);
+
+                    strengths[runout * size + i] = (combination & board) != 0
+                        ? CONFLICT
+                        : evaluator.applyAsInt(combination | board);
+                }
+            }
+        });
+
+        return strengths;
+    }
+
+    private static long[] runouts(final long board, final long excluded, final int missing) {
+        final var deck = new int[CardCode.CARDS_COUNT];
+        var deckSize = 0;
+
+        for (int index = 0; index < CardCode.CARDS_COUNT; index++) {
+            if (!CardMask.contains(excluded, index)) {
+                deck[deckSize++] = index;
+            }
+        }
+
+        final var boards = new ArrayList<Long>();
+        addRunouts(deck, deckSize, 0, missing, board, boards);
+
+        return boards.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static void addRunouts(
+        final int[] deck,
+        final int deckSize,
+        final int start,
+        final int missing,
+        final long board,
+        final List<Long> boards
+    ) {
+        if (missing == 0) {
+            boards.add(board);
+            return;
+        }
+
+        for (int i = start; i <= deckSize - missing; i++) {
+            addRunouts(deck, deckSize, i + 1, missing - 1, board | CardCode.bit(deck[i]), boards);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+public class EquityResult {
+    private static final double CONFIDENCE_Z = 1.96;
+
+    private final long trials;
+    private final long[] wins;
+    private final long[] ties;
+    private final long[] losses;
+    private final double[] shares;
+    private final boolean exhaustive;
+
+    EquityResult(final EquityTally tally, final boolean exhaustive) {
+        this.trials = tally.trials;
+        this.wins = tally.wins.clone();
+        this.ties = tally.ties.clone();
+        this.losses = tally.losses.clone();
+        this.shares = tally.shares.clone();
+        this.exhaustive = exhaustive;
+    }
+
+    public int getPlayersCount() {
+        return wins.length;
+    }
+
+    public long getTrials() {
+        return trials;
+    }
+
+    public boolean isExhaustive() {
+        return exhaustive;
+    }
+
+    public long getWins(final int player) {
+        return wins[player];
+    }
+
+    public long getTies(final int player) {
+        return ties[player];
+    }
+
+    public long getLosses(final int player) {
+        return losses[player];
+    }
+
+    public double getWinRate(final int player) {
+        return trials == 0 ? 0 : (double) wins[player] / trials;
+    }
+
+    public double getTieRate(final int player) {
+        return trials == 0 ? 0 : (double) ties[player] / trials;
+    }
+
+    public double getLossRate(final int player) {
+        return trials == 0 ? 0 : (double) losses[player] / trials;
+    }
+
+    /**
+     * Share of the pot won on average, with split pots divided between the tied players.
+     */
+    public double getEquity(final int player) {
+        return trials == 0 ? 0 : shares[player] / trials;
+    }
+
+    /**
+     * Half width of the 95% confidence interval of {@link #getEquity(int)}, zero for exhaustive results.
+     */
+    public double getMarginOfError(final int player) {
+        return exhaustive ? 0 : marginOfError(getEquity(player), trials);
+    }
+
+    static double marginOfError(final double equity, final long trials) {
+        return trials == 0 ? 1 : CONFIDENCE_Z * Math.sqrt(equity * (1 - equity) / trials);
+    }
+
+    @Override
+    public String toString() {
+        final var text = new StringBuilder("EquityResult{trials=").append(trials);
+
+        for (int player = 0; player < wins.length; player++) {
+            text.append(String.format(
+                ", player%d={equity=%.4f, win=%.4f, tie=%.4f, loss=%.4f}",
+                player,
+                getEquity(player),
+                getWinRate(player),
+                getTieRate(player),
+                getLossRate(player)
+            ));
+        }
+
+        return text.append('}').toString();
+    }
+}
@@ -0,0 +1,73 @@
+import java.util.function.LongToIntFunction;
+
+/**
+ * Showdown counts accumulated by a single worker and merged once the worker is done.
+ */
+final class EquityTally {
+    long trials;
+    final long[] wins;
+    final long[] ties;
+    final long[] losses;
+    final double[] shares;
+
+    private final int[] strengths;
+    private final LongToIntFunction evaluator;
+
+    EquityTally(final int playersCount) {
+        this(playersCount, SevenCardEvaluator::evaluate);
+    }
+
+    EquityTally(final int playersCount, final LongToIntFunction evaluator) {
+        this.evaluator = evaluator;
+        this.wins = new long[playersCount];
+        this.ties = new long[playersCount];
+        this.losses = new long[playersCount];
+        this.shares = new double[playersCount];
+        this.strengths = new int[playersCount];
+    }
+
+    void showdown(final long[] holeCards, final long board) {
+        var best = 0;
+        var winnersCount = 0;
+
+        for (int player = 0; player < holeCards.length; player++) {
+            final var strength = evaluator.applyAsInt(holeCards[player] | board);
+            strengths[player] = strength;
+
+            if (strength > best) {
+                best = strength;
+                winnersCount = 1;
+            } else if (strength == best) {
+                winnersCount++;
+            }
+        }
+
+        final var share = 1.0 / winnersCount;
+
+        for (int player = 0; player < holeCards.length; player++) {
+            if (strengths[player] != best) {
+                losses[player]++;
+            } else {
+                if (winnersCount == 1) {
+                    wins[player]++;
+                } else {
+                    ties[player]++;
+                }
+                shares[player] += share;
+            }
+        }
+
+        trials++;
+    }
+
+    void merge(final EquityTally other) {
+        trials += other.trials;
+
+        for (int player = 0; player < wins.length; player++) {
+            wins[player] += other.wins[player];
+            ties[player] += other.ties[player];
+            losses[player] += other.losses[player];
+            shares[player] += other.shares[player];
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges concurrent evaluation requests into single {@link PokerHands#strengths(int[])} calls.
+ *
+ * <p>A single thread takes the oldest pending request and drains whatever else is queued, up to
+ * {@code maxBatchHands}, without waiting for more: an idle batcher adds no latency, a busy one
+ * evaluates larger batches. The batch and request counters tell how much merging took place.
+ */
+class EvaluationBatcher implements AutoCloseable {
+    private final int maxBatchHands;
+    private final BlockingQueue<Request> requests = new LinkedBlockingQueue<>();
+    private final Thread thread;
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedRequests = new LongAdder();
+    private volatile boolean closed;
+
+    EvaluationBatcher(final int maxBatchHands) {
+        if (maxBatchHands <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+
+        this.maxBatchHands = maxBatchHands;
+        this.thread = new Thread(this::run, "evaluation-batcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Returns a future strength for every consecutive group of five {@link CardCode} indexes.
+     */
+    CompletableFuture<int[]> evaluate(final int[] cardIndexes) {
+        final var request = new Request(cardIndexes);
+
+        if (closed) {
+            request.fail();
+            return request.result;
+        }
+
+        requests.add(request);
+
+        // close() may have drained the queue between the check above and the add
+        if (closed) {
+            requests.remove(request);
+            request.fail();
+        }
+
+        return request.result;
+    }
+
+    long getBatches() {
+        return batches.sum();
+    }
+
+    long getRequests() {
+        return batchedRequests.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        thread.interrupt();
+
+        for (var request = requests.poll(); request != null; request = requests.poll()) {
+            request.fail();
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<Request>();
+
+        while (!closed) {
+            try {
+                batch.add(requests.take());
+            } catch (final InterruptedException e) {
+                return;
+            }
+
+            var hands = batch.get(0).cardIndexes.length / HandParser.HAND_SIZE;
+
+            while (hands < maxBatchHands) {
+                final var next = requests.poll();
+
+                if (next == null) {
+                    break;
+                }
+
+                batch.add(next);
+                hands += next.cardIndexes.length / HandParser.HAND_SIZE;
+            }
+
+            evaluate(batch, hands);
+            batches.increment();
+            batchedRequests.add(batch.size());
+            batch.clear();
+        }
+    }
+
+    private static void evaluate(final List<Request> batch, final int hands) {
+        try {
+            if (batch.size() == 1) {
+                batch.get(0).result.complete(PokerHands.strengths(batch.get(0).cardIndexes));
+                return;
+            }
+
+            final var cardIndexes = new int[hands * HandParser.HAND_SIZE];
+            var offset = 0;
+
+            for (final Request request : batch) {
+                System.arraycopy(request.cardIndexes, 0, cardIndexes, offset, request.cardIndexes.length);
+                offset += request.cardIndexes.length;
+            }
+
+            final var strengths = PokerHands.strengths(cardIndexes);
+            var from = 0;
+
+            for (final Request request : batch) {
+                final var count = request.cardIndexes.length / HandParser.HAND_SIZE;
+                final var result = new int[count];
+
+                System.arraycopy(strengths, from, result, 0, count);
+                from += count;
+                request.result.complete(result);
+            }
+        } catch (final RuntimeException e) {
+            for (final Request request : batch) {
+                request.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class Request {
+        private final int[] cardIndexes;
+        private final CompletableFuture<int[]> result = new CompletableFuture<>();
+
+        private Request(final int[] cardIndexes) {
+            this.cardIndexes = cardIndexes;
+        }
+
+        private void fail() {
+            result.completeExceptionally(new IllegalStateException("Batcher is closed"));
+        }
+    }
+}
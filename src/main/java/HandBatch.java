@@ -0,0 +1,55 @@
+/**
+ * A batch of parsed and evaluated hands, in input order. Arrays may be longer than {@link #size()}.
+ */
+public class HandBatch {
+    private final long sequence;
+    private final int size;
+    private final long[] lines;
+    private final int[] cardIndexes;
+    private final int[] strengths;
+    private final int parseErrors;
+
+    HandBatch(
+        final long sequence,
+        final int size,
+        final long[] lines,
+        final int[] cardIndexes,
+        final int[] strengths,
+        final int parseErrors
+    ) {
+        this.sequence = sequence;
+        this.size = size;
+        this.lines = lines;
+        this.cardIndexes = cardIndexes;
+        this.strengths = strengths;
+        this.parseErrors = parseErrors;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getLine(final int hand) {
+        return lines[hand];
+    }
+
+    public int getCardIndex(final int hand, final int card) {
+        return cardIndexes[hand * HandParser.HAND_SIZE + card];
+    }
+
+    public int getStrength(final int hand) {
+        return strengths[hand];
+    }
+
+    public HandType getHandType(final int hand) {
+        return HandType.fromStrength(strengths[hand]);
+    }
+
+    public int getParseErrors() {
+        return parseErrors;
+    }
+}
@@ -0,0 +1,189 @@
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Bounded, thread-safe cache of hand strengths in front of a mask evaluator.
+ *
+ * <p>Hands are keyed by their suit-normalized mask: suit lanes are reordered by descending
+ * value, so every suit permutation of a hand shares one entry. The wrapped evaluator must
+ * therefore not depend on which suits the cards have, only on how they are distributed,
+ * which holds for every evaluator in this project.
+ *
+ * <p>Entries live in four way sets, newest first; an insert into a full set evicts the oldest.
+ * Every set has a sequence number, odd while a writer holds the set: lookups take no lock and
+ * retry as a miss when the number moved under them, and a writer that finds the set busy skips
+ * the insert.
+ *
+ * <p>The cache is opt-in, see {@link EquityMatrix} and {@link EquityCalculator}. A hit costs more
+ * than a {@link SevenCardEvaluator} call (see {@code CacheBenchmark}), so it only pays off in front
+ * of slower evaluators.
+ */
+public class HandCache implements LongToIntFunction {
+    private static final int WAYS = 4;
+    private static final long NO_KEY = -1L;
+    private static final long SUIT_LANE = (1L << CardCode.SUIT_LANE_BITS) - 1;
+
+    private final LongToIntFunction evaluator;
+    private final long[] keys;
+    private final int[] strengths;
+    private final AtomicLongArray versions;
+    private final int setMask;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public HandCache(final int capacity, final LongToIntFunction evaluator) {
+        if (capacity < WAYS) {
+            throw new IllegalArgumentException("Cache capacity must be at least " + WAYS);
+        }
+
+        final var sets = Integer.highestOneBit(capacity / WAYS);
+
+        this.evaluator = evaluator;
+        this.keys = new long[sets * WAYS];
+        this.strengths = new int[sets * WAYS];
+        this.versions = new AtomicLongArray(sets);
+        this.setMask = sets - 1;
+
+        Arrays.fill(keys, NO_KEY);
+    }
+
+    public static HandCache sevenCard(final int capacity) {
+        return new HandCache(capacity, SevenCardEvaluator::evaluate);
+    }
+
+    public int evaluate(final long mask) {
+        final var key = canonical(mask);
+        final var set = set(key);
+        final var first = set * WAYS;
+        final var version = versions.get(set);
+
+        if ((version & 1) == 0) {
+            for (int way = first; way < first + WAYS; way++) {
+                if (keys[way] == key) {
+                    final var strength = strengths[way];
+
+                    VarHandle.acquireFence();
+
+                    if (versions.get(set) == version) {
+                        hits.increment();
+                        return strength;
+                    }
+
+                    break;
+                }
+            }
+        }
+
+        misses.increment();
+        final var strength = evaluator.applyAsInt(mask);
+        insert(set, key, strength);
+
+        return strength;
+    }
+
+    @Override
+    public int applyAsInt(final long mask) {
+        return evaluate(mask);
+    }
+
+    private void insert(final int set, final long key, final int strength) {
+        final var version = versions.get(set);
+
+        if ((version & 1) != 0 || !versions.compareAndSet(set, version, version + 1)) {
+            return;
+        }
+
+        final var first = set * WAYS;
+        final var last = first + WAYS - 1;
+
+        try {
+            // Another thread may have missed on the same key and inserted it first
+            for (int way = first; way <= last; way++) {
+                if (keys[way] == key) {
+                    return;
+                }
+            }
+
+            if (keys[last] != NO_KEY) {
+                evictions.increment();
+            }
+
+            System.arraycopy(keys, first, keys, first + 1, WAYS - 1);
+            System.arraycopy(strengths, first, strengths, first + 1, WAYS - 1);
+            keys[first] = key;
+            strengths[first] = strength;
+        } finally {
+            versions.set(set, version + 2);
+        }
+    }
+
+    public HandType getHandType(final long mask) {
+        return HandType.fromStrength(evaluate(mask));
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRate() {
+        final var hitsCount = getHits();
+        final var total = hitsCount + getMisses();
+
+        return total == 0 ? 0 : (double) hitsCount / total;
+    }
+
+    /**
+     * Reorders the suit lanes of the mask by descending value, which is the same for all suit permutations.
+     */
+    public static long canonical(final long mask) {
+        var a = mask & SUIT_LANE;
+        var b = (mask >>> CardCode.SUIT_LANE_BITS) & SUIT_LANE;
+        var c = (mask >>> (2 * CardCode.SUIT_LANE_BITS)) & SUIT_LANE;
+        var d = mask >>> (3 * CardCode.SUIT_LANE_BITS);
+        long swap;
+
+        if (a < b) { swap = a; a = b; b = swap; }
+        if (c < d) { swap = c; c = d; d = swap; }
+        if (a < c) { swap = a; a = c; c = swap; }
+        if (b < d) { swap = b; b = d; d = swap; }
+        if (b < c) { swap = b; b = c; c = swap; }
+
+        return a
+            | b << CardCode.SUIT_LANE_BITS
+            | c << (2 * CardCode.SUIT_LANE_BITS)
+            | d << (3 * CardCode.SUIT_LANE_BITS);
+    }
+
+    private int set(final long key) {
+        final var hash = key * 0x9E3779B97F4A7C15L;
+
+        return (int) (hash >>> 40) & setMask;
+    }
+
+    @Override
+    public String toString() {
+        return "HandCache{" +
+            "capacity=" + getCapacity() +
+            ", hits=" + getHits() +
+            ", misses=" + getMisses() +
+            ", evictions=" + getEvictions() +
+            '}';
+    }
+}
@@ -0,0 +1,179 @@
+import java.util.List;
+
+/**
+ * Table driven five card evaluator in the style of Cactus Kev's.
+ *
+ * <p>Cards are encoded by {@link CardCode#packed(int)} as {@code xxxbbbbb bbbbbbbb cdhsrrrr xxpppppp}: one bit per rating,
+ * one bit per suit, the rating index and the rating prime. Flushes and hands of five
+ * distinct ratings are resolved by the rating bitmask, everything else by the product
+ * of rating primes, so an evaluation is a handful of array reads with no allocation.
+ */
+public final class HandEvaluator {
+    static final int RATING_BITS = 4;
+    static final int HAND_TYPE_SHIFT = RATING_BITS * 5;
+
+    private static final int RATINGS_COUNT = CardRating.values().length;
+    private static final int ROYAL_RATINGS = 0x1F << (CardRating.TEN.ordinal());
+
+    private static final int PRODUCT_HASH_BITS = 14;
+    private static final int PRODUCT_HASH_MASK = (1 << PRODUCT_HASH_BITS) - 1;
+
+    private static final int[] FLUSHES = new int[1 << RATINGS_COUNT];
+    private static final int[] UNIQUE_RATINGS = new int[1 << RATINGS_COUNT];
+    private static final int[] PRODUCT_KEYS = new int[1 << PRODUCT_HASH_BITS];
+    private static final int[] PRODUCT_STRENGTHS = new int[1 << PRODUCT_HASH_BITS];
+
+    static {
+        fillTables(new int[RATINGS_COUNT], 0, 0);
+    }
+
+    private HandEvaluator() {
+    }
+
+    public static int evaluate(final List<Card> cards) {
+        if (cards.size() != 5) {
+            throw new IllegalArgumentException("Hand must contains 5 cards");
+        }
+
+        return evaluate(
+            CardCode.packed(CardCode.index(cards.get(0))),
+            CardCode.packed(CardCode.index(cards.get(1))),
+            CardCode.packed(CardCode.index(cards.get(2))),
+            CardCode.packed(CardCode.index(cards.get(3))),
+            CardCode.packed(CardCode.index(cards.get(4)))
+        );
+    }
+
+    public static int evaluateIndexes(final int i1, final int i2, final int i3, final int i4, final int i5) {
+        return evaluate(
+            CardCode.packed(i1),
+            CardCode.packed(i2),
+            CardCode.packed(i3),
+            CardCode.packed(i4),
+            CardCode.packed(i5)
+        );
+    }
+
+    public static int evaluate(final int c1, final int c2, final int c3, final int c4, final int c5) {
+        final var ratings = (c1 | c2 | c3 | c4 | c5) >>> 16;
+
+        if ((c1 & c2 & c3 & c4 & c5 & 0xF000) != 0 && FLUSHES[ratings] != 0) {
+            return FLUSHES[ratings];
+        }
+
+        final var unique = UNIQUE_RATINGS[ratings];
+
+        if (unique != 0) {
+            return unique;
+        }
+
+        return findByProduct((c1 & 0xFF) * (c2 & 0xFF) * (c3 & 0xFF) * (c4 & 0xFF) * (c5 & 0xFF));
+    }
+
+    private static int findByProduct(final int product) {
+        var slot = productHash(product);
+
+        while (PRODUCT_KEYS[slot] != product) {
+            slot = (slot + 1) & PRODUCT_HASH_MASK;
+        }
+
+        return PRODUCT_STRENGTHS[slot];
+    }
+
+    private static int productHash(final int product) {
+        return (product * 0x9E3779B1) >>> (32 - PRODUCT_HASH_BITS);
+    }
+
+    private static void fillTables(final int[] ratingsCount, final int fromRating, final int cardsCount) {
+        if (cardsCount == 5) {
+            addToTables(ratingsCount);
+            return;
+        }
+
+        for (int rating = fromRating; rating < RATINGS_COUNT; rating++) {
+            ratingsCount[rating]++;
+            fillTables(ratingsCount, rating, cardsCount + 1);
+            ratingsCount[rating]--;
+        }
+    }
+
+    private static void addToTables(final int[] ratingsCount) {
+        var ratings = 0;
+        var product = 1;
+        var maxCount = 0;
+        var pairs = 0;
+
+        for (int rating = 0; rating < RATINGS_COUNT; rating++) {
+            final var count = ratingsCount[rating];
+
+            for (int i = 0; i < count; i++) {
+                product *= CardCode.packed(CardCode.index(rating, 0)) & 0xFF;
+            }
+
+            if (count > 0) {
+                ratings |= 1 << rating;
+            }
+
+            if (count == 2) {
+                pairs++;
+            }
+
+            maxCount = Math.max(maxCount, count);
+        }
+
+        if (Integer.bitCount(ratings) == 5) {
+            final var straight = isStraight(ratings);
+
+            final var flushType = ratings == ROYAL_RATINGS
+                ? HandType.ROYAL_FLASH
+                : straight ? HandType.STRAIGHT_FLUSH : HandType.FLUSH;
+
+            FLUSHES[ratings] = strength(flushType, ratingsCount);
+            UNIQUE_RATINGS[ratings] = strength(straight ? HandType.STRAIGHT : HandType.HIGH_CARD, ratingsCount);
+            return;
+        }
+
+        final HandType handType;
+
+        if (maxCount == 4) {
+            handType = HandType.FOUR_OF_A_KIND;
+        } else if (maxCount == 3) {
+            handType = pairs == 1 ? HandType.FULL_HOUSE : HandType.THREE_OF_A_KIND;
+        } else if (pairs == 2) {
+            handType = HandType.TWO_PAIRS;
+        } else if (pairs == 1) {
+            handType = HandType.PAIR;
+        } else {
+            handType = HandType.HIGH_CARD;
+        }
+
+        var slot = productHash(product);
+
+        while (PRODUCT_KEYS[slot] != 0) {
+            slot = (slot + 1) & PRODUCT_HASH_MASK;
+        }
+
+        PRODUCT_KEYS[slot] = product;
+        PRODUCT_STRENGTHS[slot] = strength(handType, ratingsCount);
+    }
+
+    private static boolean isStraight(final int ratings) {
+        return ratings == (0x1F << Integer.numberOfTrailingZeros(ratings));
+    }
+
+    private static int strength(final HandType handType, final int[] ratingsCount) {
+        var strength = handType.getRating();
+        var packedRatings = 0;
+
+        for (int count = 5; count > 0; count--) {
+            for (int rating = RATINGS_COUNT - 1; rating >= 0; rating--) {
+                if (ratingsCount[rating] == count) {
+                    strength = (strength << RATING_BITS) | CardRating.values()[rating].getValue();
+                    packedRatings++;
+                }
+            }
+        }
+
+        return strength << (RATING_BITS * (5 - packedRatings));
+    }
+}
@@ -0,0 +1,193 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Reads files written by {@link HandFileWriter}.
+ *
+ * <p>Blocks are read with positional reads and checked against their CRC32, so any number of
+ * threads can share one reader and process disjoint block ranges of the same file.
+ */
+public final class HandFileReader implements AutoCloseable {
+    private static final int CARD_MASK = (1 << HandFileWriter.CARD_BITS) - 1;
+
+    private final FileChannel channel;
+    private final boolean withStrengths;
+    private final int blockHands;
+    private final long count;
+    private final long[] blockPositions;
+    private final int[] blockSizes;
+    private final int[] blockChecksums;
+
+    public HandFileReader(final Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            final var header = readFully(0, HandFileWriter.HEADER_BYTES);
+
+            if (header.getInt() != HandFileWriter.MAGIC) {
+                throw new IOException("Not a complete hand file: " + path);
+            }
+
+            final var version = header.getInt();
+
+            if (version != HandFileWriter.VERSION) {
+                throw new IOException("Unsupported hand file version " + version);
+            }
+
+            this.withStrengths = (header.getInt() & HandFileWriter.STRENGTHS_FLAG) != 0;
+            this.blockHands = header.getInt();
+            this.count = header.getLong();
+
+            final var blocks = header.getInt();
+            final var index = readFully(header.getLong(), blocks * HandFileWriter.INDEX_ENTRY_BYTES);
+
+            this.blockPositions = new long[blocks];
+            this.blockSizes = new int[blocks];
+            this.blockChecksums = new int[blocks];
+
+            for (int block = 0; block < blocks; block++) {
+                blockPositions[block] = index.getLong();
+                blockSizes[block] = index.getInt();
+                blockChecksums[block] = index.getInt();
+            }
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts the binary file to text, one hand per line, and returns the hands count.
+     */
+    public static long toText(final Path binary, final Path text) throws IOException {
+        try (
+            final var reader = new HandFileReader(binary);
+            final BufferedWriter writer = Files.newBufferedWriter(text, StandardCharsets.US_ASCII)
+        ) {
+            final var cardIndexes = new int[reader.blockHands * HandParser.HAND_SIZE];
+
+            for (int block = 0; block < reader.getBlocksCount(); block++) {
+                final var hands = reader.readBlock(block, cardIndexes, null);
+
+                for (int hand = 0; hand < hands; hand++) {
+                    for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+                        if (card > 0) {
+                            writer.write(' ');
+                        }
+
+                        writer.write(CardCode.toText(cardIndexes[hand * HandParser.HAND_SIZE + card]));
+                    }
+
+                    writer.write('\n');
+                }
+            }
+
+            return reader.count;
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public boolean hasStrengths() {
+        return withStrengths;
+    }
+
+    public int getBlockHands() {
+        return blockHands;
+    }
+
+    public int getBlocksCount() {
+        return blockPositions.length;
+    }
+
+    public int getBlockSize(final int block) {
+        return blockSizes[block];
+    }
+
+    /**
+     * Returns the block holding the hand, every block but the last being full.
+     */
+    public int blockOf(final long hand) {
+        if (hand < 0 || hand >= count) {
+            throw new IndexOutOfBoundsException("Hand " + hand + " out of " + count);
+        }
+
+        return (int) (hand / blockHands);
+    }
+
+    public long getFirstHand(final int block) {
+        return (long) block * blockHands;
+    }
+
+    /**
+     * Reads the block into five {@link CardCode} indexes per hand and, unless {@code strengths} is
+     * null, one strength per hand, evaluated when the file has no strength column. Returns the
+     * hands count of the block.
+     */
+    public int readBlock(final int block, final int[] cardIndexes, final int[] strengths) throws IOException {
+        final var hands = blockSizes[block];
+        final var columns = withStrengths ? 2 : 1;
+        final var bytes = readFully(blockPositions[block], hands * Integer.BYTES * columns);
+        final var checksum = new CRC32();
+
+        checksum.update(bytes.duplicate());
+
+        if ((int) checksum.getValue() != blockChecksums[block]) {
+            throw new IOException("Checksum mismatch in block " + block);
+        }
+
+        for (int hand = 0; hand < hands; hand++) {
+            final var packed = bytes.getInt();
+
+            for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+                cardIndexes[hand * HandParser.HAND_SIZE + card] = (packed >>> (card * HandFileWriter.CARD_BITS)) & CARD_MASK;
+            }
+        }
+
+        if (strengths == null) {
+            return hands;
+        }
+
+        for (int hand = 0; hand < hands; hand++) {
+            final var card = hand * HandParser.HAND_SIZE;
+
+            strengths[hand] = withStrengths
+                ? bytes.getInt()
+                : HandEvaluator.evaluateIndexes(
+                    cardIndexes[card],
+                    cardIndexes[card + 1],
+                    cardIndexes[card + 2],
+                    cardIndexes[card + 3],
+                    cardIndexes[card + 4]
+                );
+        }
+
+        return hands;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private ByteBuffer readFully(final long position, final int length) throws IOException {
+        final var buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of hand file at " + (position + buffer.position()));
+            }
+        }
+
+        return buffer.flip();
+    }
+}
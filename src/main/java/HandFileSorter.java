@@ -0,0 +1,377 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts a text file with one hand per line by hand strength, weakest first.
+ *
+ * <p>The input is memory mapped and parsed in place. Hands are collected in chunks of primitive
+ * arrays; when the input does not fit in one chunk every chunk is written to disk as a sorted
+ * run and the runs are merged. Hands of equal strength keep their input order.
+ */
+public class HandFileSorter {
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 23;
+
+    private static final int MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    private static final byte[] CARD_TEXT = new byte[CardCode.CARDS_COUNT * 2];
+
+    static {
+        for (int index = 0; index < CardCode.CARDS_COUNT; index++) {
+            final var text = CardCode.toText(index);
+            CARD_TEXT[index * 2] = (byte) text.charAt(0);
+            CARD_TEXT[index * 2 + 1] = (byte) text.charAt(1);
+        }
+    }
+
+    private final int chunkSize;
+    private final boolean writeLineIndexes;
+
+    public HandFileSorter(final int chunkSize, final boolean writeLineIndexes) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        this.chunkSize = chunkSize;
+        this.writeLineIndexes = writeLineIndexes;
+    }
+
+    public long sort(final Path input, final Path output) throws IOException {
+        final var runs = new ArrayList<Path>();
+        final var chunk = new Chunk(chunkSize);
+
+        try (
+            final var channel = FileChannel.open(input, StandardOpenOption.READ);
+            final var out = new HandWriter(Files.newOutputStream(output), writeLineIndexes)
+        ) {
+            final var size = channel.size();
+            final var indexes = new int[HandParser.HAND_SIZE];
+            var windowStart = 0L;
+            var line = 0L;
+
+            while (windowStart < size) {
+                final var window = channel.map(
+                    FileChannel.MapMode.READ_ONLY,
+                    windowStart,
+                    Math.min(MAX_WINDOW_SIZE, size - windowStart)
+                );
+                final var lastWindow = windowStart + window.limit() == size;
+                var position = 0;
+
+                while (position < window.limit()) {
+                    final var lineEnd = findLineEnd(window, position);
+
+                    if (lineEnd == window.limit() && !lastWindow) {
+                        if (position == 0) {
+                            throw new IOException("Line " + line + " is longer than the mapping window");
+                        }
+                        break;
+                    }
+
+                    if (!isBlank(window, position, lineEnd)) {
+                        if (chunk.size == chunkSize) {
+                            runs.add(chunk.writeRun());
+                        }
+
+                        chunk.add(line, parseLine(window, position, lineEnd, indexes, line));
+                    }
+
+                    position = lineEnd + 1;
+                    line++;
+                }
+
+                windowStart += Math.min(position, window.limit());
+            }
+
+            if (runs.isEmpty()) {
+                chunk.sort();
+                for (int i = 0; i < chunk.size; i++) {
+                    out.write(chunk.lineAt(i), chunk.cardsAt(i));
+                }
+                return chunk.size;
+            }
+
+            if (chunk.size > 0) {
+                runs.add(chunk.writeRun());
+            }
+
+            return merge(runs, out);
+        } finally {
+            for (final Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    private long merge(final List<Path> runs, final HandWriter out) throws IOException {
+        final var queue = new PriorityQueue<RunReader>(runs.size());
+        var written = 0L;
+
+        try {
+            for (final Path run : runs) {
+                final var reader = new RunReader(run);
+
+                if (reader.next()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+
+            while (!queue.isEmpty()) {
+                final var reader = queue.poll();
+                out.write(reader.line, reader.cards);
+                written++;
+
+                if (reader.next()) {
+                    queue.add(reader);
+                } else {
+                    reader.close();
+                }
+            }
+        } finally {
+            for (final RunReader reader : queue) {
+                reader.close();
+            }
+        }
+
+        return written;
+    }
+
+    private static int findLineEnd(final MappedByteBuffer window, final int from) {
+        var position = from;
+
+        while (position < window.limit() && window.get(position) != '\n') {
+            position++;
+        }
+
+        return position;
+    }
+
+    private static boolean isBlank(final MappedByteBuffer window, final int from, final int to) {
+        return to == from || (to == from + 1 && window.get(from) == '\r');
+    }
+
+    private static int parseLine(
+        final MappedByteBuffer window,
+        final int from,
+        final int to,
+        final int[] indexes,
+        final long line
+    ) {
+        final int end;
+
+        try {
+            end = HandParser.LENIENT.parse(window, from, indexes, 0);
+        } catch (final HandParseException e) {
+            throw new IllegalArgumentException("Invalid hand at line " + line, e);
+        }
+
+        if (end != to && !(end == to - 1 && window.get(end) == '\r')) {
+            throw new IllegalArgumentException("Invalid hand at line " + line + ": unexpected trailing input");
+        }
+
+        var cards = 0;
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            cards |= indexes[card] << (card * CARD_BITS);
+        }
+
+        return cards;
+    }
+
+    private static int strengthOf(final int cards) {
+        return HandEvaluator.evaluateIndexes(
+            cards & CARD_MASK,
+            (cards >>> CARD_BITS) & CARD_MASK,
+            (cards >>> (2 * CARD_BITS)) & CARD_MASK,
+            (cards >>> (3 * CARD_BITS)) & CARD_MASK,
+            (cards >>> (4 * CARD_BITS)) & CARD_MASK
+        );
+    }
+
+    private static final class HandWriter implements AutoCloseable {
+        private final OutputStream out;
+        private final boolean writeLineIndexes;
+        private final byte[] buffer = new byte[1 << 16];
+        private int size;
+
+        private HandWriter(final OutputStream out, final boolean writeLineIndexes) {
+            this.out = out;
+            this.writeLineIndexes = writeLineIndexes;
+        }
+
+        private void write(final long line, final int cards) throws IOException {
+            if (size + 32 > buffer.length) {
+                flush();
+            }
+
+            if (writeLineIndexes) {
+                writeNumber(line);
+            } else {
+                for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+                    if (card > 0) {
+                        buffer[size++] = ' ';
+                    }
+
+                    final var index = (cards >>> (card * CARD_BITS)) & CARD_MASK;
+                    buffer[size++] = CARD_TEXT[index * 2];
+                    buffer[size++] = CARD_TEXT[index * 2 + 1];
+                }
+            }
+
+            buffer[size++] = '\n';
+        }
+
+        private void writeNumber(final long value) {
+            var digits = 1;
+
+            for (long bound = 10; bound <= value && digits < 19; bound *= 10) {
+                digits++;
+            }
+
+            var remaining = value;
+
+            for (int i = size + digits - 1; i >= size; i--) {
+                buffer[i] = (byte) ('0' + remaining % 10);
+                remaining /= 10;
+            }
+
+            size += digits;
+        }
+
+        private void flush() throws IOException {
+            out.write(buffer, 0, size);
+            size = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (out) {
+                flush();
+            }
+        }
+    }
+
+    /**
+     * Arrays start small and double up to the capacity, so short inputs do not pay for a full chunk.
+     */
+    private static final class Chunk {
+        private static final int INITIAL_CAPACITY = 1 << 10;
+
+        private final int capacity;
+        private int[] strengths;
+        private long[] lines;
+        private int[] cards;
+        private int[] order;
+        private int size;
+
+        private Chunk(final int capacity) {
+            final var initialCapacity = Math.min(capacity, INITIAL_CAPACITY);
+
+            this.capacity = capacity;
+            this.strengths = new int[initialCapacity];
+            this.lines = new long[initialCapacity];
+            this.cards = new int[initialCapacity];
+        }
+
+        private void add(final long line, final int handCards) {
+            if (size == strengths.length) {
+                final var grown = (int) Math.min(capacity, 2L * size);
+
+                strengths = Arrays.copyOf(strengths, grown);
+                lines = Arrays.copyOf(lines, grown);
+                cards = Arrays.copyOf(cards, grown);
+            }
+
+            strengths[size] = strengthOf(handCards);
+            lines[size] = line;
+            cards[size] = handCards;
+            size++;
+        }
+
+        private void sort() {
+            order = StrengthSorter.sortedOrder(strengths, size, false);
+        }
+
+        private long lineAt(final int position) {
+            return lines[order[position]];
+        }
+
+        private int cardsAt(final int position) {
+            return cards[order[position]];
+        }
+
+        private Path writeRun() throws IOException {
+            sort();
+            final var run = Files.createTempFile("hand-sort-run", ".bin");
+
+            try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run), 1 << 16))) {
+                for (int i = 0; i < size; i++) {
+                    out.writeInt(strengths[order[i]]);
+                    out.writeLong(lineAt(i));
+                    out.writeInt(cardsAt(i));
+                }
+            }
+
+            size = 0;
+
+            return run;
+        }
+    }
+
+    private static final class RunReader implements Comparable<RunReader>, AutoCloseable {
+        private final DataInputStream in;
+        private int strength;
+        private long line;
+        private int cards;
+
+        private RunReader(final Path run) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(run), 1 << 16));
+        }
+
+        private boolean next() throws IOException {
+            try {
+                strength = in.readInt();
+            } catch (final EOFException e) {
+                return false;
+            }
+
+            line = in.readLong();
+            cards = in.readInt();
+
+            return true;
+        }
+
+        @Override
+        public int compareTo(final RunReader other) {
+            final var result = Integer.compare(strength, other.strength);
+
+            return result != 0 ? result : Long.compare(line, other.line);
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Writes hands in the binary hand file format read by {@link HandFileReader}.
+ *
+ * <p>The file starts with a {@value #HEADER_BYTES} byte header: magic, version, flags, hands per
+ * block, hands count, blocks count and the index position. Blocks follow, each holding the packed
+ * cards of its hands, four bytes per hand with six bits per {@link CardCode} index, then their
+ * strengths when the file has a strength column. The index closes the file with the position,
+ * hands count and CRC32 of every block. All numbers are big-endian.
+ */
+public final class HandFileWriter implements AutoCloseable {
+    public static final int DEFAULT_BLOCK_HANDS = 1 << 16;
+
+    static final int MAGIC = 0x50484246;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 64;
+    static final int STRENGTHS_FLAG = 1;
+    static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+    static final int CARD_BITS = 6;
+
+    private final FileChannel channel;
+    private final boolean withStrengths;
+    private final int blockHands;
+    private final ByteBuffer cards;
+    private final ByteBuffer strengths;
+    private final CRC32 checksum = new CRC32();
+    private ByteBuffer index = ByteBuffer.allocate(64 * INDEX_ENTRY_BYTES);
+    private long position = HEADER_BYTES;
+    private long count;
+    private int blocks;
+
+    public HandFileWriter(final Path path, final boolean withStrengths, final int blockHands) throws IOException {
+        if (blockHands <= 0 || blockHands > Integer.MAX_VALUE / (2 * Integer.BYTES)) {
+            throw new IllegalArgumentException("Block hands count must be positive");
+        }
+
+        this.channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE
+        );
+        this.withStrengths = withStrengths;
+        this.blockHands = blockHands;
+        this.cards = ByteBuffer.allocate(blockHands * Integer.BYTES);
+        this.strengths = ByteBuffer.allocate(withStrengths ? blockHands * Integer.BYTES : 0);
+    }
+
+    /**
+     * Converts a text file of one hand per line, blank lines skipped, and returns the hands count.
+     */
+    public static long fromText(
+        final Path text,
+        final Path binary,
+        final boolean withStrengths,
+        final int blockHands
+    ) throws IOException {
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        try (
+            final BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.US_ASCII);
+            final var writer = new HandFileWriter(binary, withStrengths, blockHands)
+        ) {
+            var line = 0L;
+
+            for (var hand = reader.readLine(); hand != null; hand = reader.readLine()) {
+                line++;
+
+                if (hand.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    if (HandParser.LENIENT.parse(hand, 0, indexes, 0) != hand.length()) {
+                        throw new IllegalArgumentException("Invalid hand at line " + line + ": unexpected trailing input");
+                    }
+                } catch (final HandParseException e) {
+                    throw new IllegalArgumentException("Invalid hand at line " + line, e);
+                }
+
+                writer.write(indexes, 0);
+            }
+
+            return writer.count;
+        }
+    }
+
+    public void write(final PokerHand hand) throws IOException {
+        var packed = 0;
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            packed |= CardCode.index(hand.getCards().get(card)) << (card * CARD_BITS);
+        }
+
+        write(packed, hand.getStrength());
+    }
+
+    /**
+     * Writes the hand of the five {@link CardCode} indexes starting at {@code offset}.
+     */
+    public void write(final int[] cardIndexes, final int offset) throws IOException {
+        var packed = 0;
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            packed |= cardIndexes[offset + card] << (card * CARD_BITS);
+        }
+
+        final var strength = withStrengths
+            ? HandEvaluator.evaluateIndexes(
+                cardIndexes[offset],
+                cardIndexes[offset + 1],
+                cardIndexes[offset + 2],
+                cardIndexes[offset + 3],
+                cardIndexes[offset + 4]
+            )
+            : 0;
+
+        write(packed, strength);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (channel) {
+            if (cards.position() > 0) {
+                writeBlock();
+            }
+
+            final var indexPosition = position;
+
+            index.flip();
+            writeFully(index, position);
+
+            final var header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(withStrengths ? STRENGTHS_FLAG : 0)
+                .putInt(blockHands)
+                .putLong(count)
+                .putInt(blocks)
+                .putLong(indexPosition);
+
+            header.clear();
+            writeFully(header, 0);
+        }
+    }
+
+    private void write(final int packed, final int strength) throws IOException {
+        cards.putInt(packed);
+
+        if (withStrengths) {
+            strengths.putInt(strength);
+        }
+
+        count++;
+
+        if (!cards.hasRemaining()) {
+            writeBlock();
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        final var hands = cards.position() / Integer.BYTES;
+
+        cards.flip();
+        strengths.flip();
+        checksum.reset();
+        checksum.update(cards.duplicate());
+        checksum.update(strengths.duplicate());
+
+        if (index.remaining() < INDEX_ENTRY_BYTES) {
+            index = ByteBuffer.allocate(index.capacity() * 2).put(index.flip());
+        }
+
+        index.putLong(position).putInt(hands).putInt((int) checksum.getValue());
+        blocks++;
+
+        final var blockStart = position;
+        position += writeFully(cards, blockStart);
+        position += writeFully(strengths, position);
+
+        cards.clear();
+        strengths.clear();
+    }
+
+    private int writeFully(final ByteBuffer buffer, final long at) throws IOException {
+        final var length = buffer.remaining();
+        var written = 0;
+
+        while (buffer.hasRemaining()) {
+            written += channel.write(buffer, at + written);
+        }
+
+        return length;
+    }
+}
@@ -0,0 +1,204 @@
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Concurrent pool of canonical {@link PokerHand} instances counting how often each hand was seen.
+ *
+ * <p>At most 3,819,816 distinct hands exist, repeated cards included, so every hand has a fixed
+ * slot: the rank of its sorted card indexes among all five card multisets. Slots live in pages
+ * allocated on first use, each holding a primitive counter and a reference slot per hand. An
+ * instance is kept only for hands returned by {@code intern}, and {@link #count(CharSequence)}
+ * never builds one, so the pool stays below 46 MB plus the interned instances however many hands
+ * are counted.
+ */
+public final class HandInterner {
+    private static final int DISTINCT_HANDS = 3_819_816;
+    private static final int PAGE_BITS = 12;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    // Sorted indexes a0 <= ... <= a4 become strictly increasing a_i + i below 56
+    private static final int[][] BINOMIALS = binomials(CardCode.CARDS_COUNT + HandParser.HAND_SIZE - 1);
+
+    private final AtomicReferenceArray<Page> pages = new AtomicReferenceArray<>((DISTINCT_HANDS >>> PAGE_BITS) + 1);
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Returns the pooled hand equal to the given one, pooling it when absent, and counts it.
+     */
+    public PokerHand intern(final PokerHand hand) {
+        final var slot = slot(hand.getKey());
+        final var page = page(slot);
+        final var offset = slot & (PAGE_SIZE - 1);
+
+        increment(page, offset);
+        final var pooled = page.hands.compareAndExchange(offset, null, hand);
+
+        return pooled == null ? hand : pooled;
+    }
+
+    /**
+     * Parses the hand, then returns and counts its pooled instance.
+     */
+    public PokerHand intern(final CharSequence cardsInput) {
+        final var key = parseKey(cardsInput);
+        final var slot = slot(key);
+        final var page = page(slot);
+        final var offset = slot & (PAGE_SIZE - 1);
+
+        increment(page, offset);
+        final var pooled = page.hands.get(offset);
+
+        if (pooled != null) {
+            return pooled;
+        }
+
+        final var hand = toHand(key);
+        final var raced = page.hands.compareAndExchange(offset, null, hand);
+
+        return raced == null ? hand : raced;
+    }
+
+    /**
+     * Parses and counts the hand without pooling an instance.
+     */
+    public void count(final CharSequence cardsInput) {
+        final var slot = slot(parseKey(cardsInput));
+
+        increment(page(slot), slot & (PAGE_SIZE - 1));
+    }
+
+    public long getCount(final PokerHand hand) {
+        final var slot = slot(hand.getKey());
+        final var page = pages.get(slot >>> PAGE_BITS);
+
+        return page == null ? 0 : page.counts.get(slot & (PAGE_SIZE - 1));
+    }
+
+    /**
+     * Returns the number of distinct hands counted.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Passes every counted hand with its count; hands only counted are built on the way.
+     */
+    public void forEach(final ObjLongConsumer<PokerHand> action) {
+        for (int pageIndex = 0; pageIndex < pages.length(); pageIndex++) {
+            final var page = pages.get(pageIndex);
+
+            if (page == null) {
+                continue;
+            }
+
+            for (int offset = 0; offset < PAGE_SIZE; offset++) {
+                final var count = page.counts.get(offset);
+
+                if (count > 0) {
+                    final var pooled = page.hands.get(offset);
+                    final var hand = pooled != null ? pooled : toHand(key(pageIndex << PAGE_BITS | offset));
+
+                    action.accept(hand, count);
+                }
+            }
+        }
+    }
+
+    private void increment(final Page page, final int offset) {
+        if (page.counts.incrementAndGet(offset) == 1) {
+            size.incrementAndGet();
+        }
+    }
+
+    private Page page(final int slot) {
+        final var pageIndex = slot >>> PAGE_BITS;
+        final var page = pages.get(pageIndex);
+
+        if (page != null) {
+            return page;
+        }
+
+        final var created = new Page();
+        final var raced = pages.compareAndExchange(pageIndex, null, created);
+
+        return raced == null ? created : raced;
+    }
+
+    private static int parseKey(final CharSequence cardsInput) {
+        final var indexes = new int[HandParser.HAND_SIZE];
+        final var end = HandParser.LENIENT.parse(cardsInput, 0, indexes, 0);
+
+        if (end != cardsInput.length()) {
+            throw new HandParseException(end, "Hand must contains 5 cards");
+        }
+
+        return PokerHand.key(indexes, 0);
+    }
+
+    /**
+     * Ranks the sorted indexes packed in a {@link PokerHand} key among all five card multisets.
+     */
+    static int slot(final int key) {
+        var slot = 0;
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            final var index = (key >>> (CARD_BITS * (HandParser.HAND_SIZE - 1 - card))) & CARD_MASK;
+
+            slot += BINOMIALS[index + card][card + 1];
+        }
+
+        return slot;
+    }
+
+    static int key(final int slot) {
+        final var indexes = new int[HandParser.HAND_SIZE];
+        var remaining = slot;
+
+        for (int card = HandParser.HAND_SIZE - 1; card >= 0; card--) {
+            var value = card;
+
+            while (value + 1 < BINOMIALS.length && BINOMIALS[value + 1][card + 1] <= remaining) {
+                value++;
+            }
+
+            remaining -= BINOMIALS[value][card + 1];
+            indexes[card] = value - card;
+        }
+
+        return PokerHand.key(indexes, 0);
+    }
+
+    private static PokerHand toHand(final int key) {
+        final var cards = new ArrayList<Card>(HandParser.HAND_SIZE);
+
+        for (int card = HandParser.HAND_SIZE - 1; card >= 0; card--) {
+            cards.add(CardCode.toCard((key >>> (CARD_BITS * card)) & CARD_MASK));
+        }
+
+        return new PokerHand(cards);
+    }
+
+    private static int[][] binomials(final int n) {
+        final var binomials = new int[n][HandParser.HAND_SIZE + 1];
+
+        for (int i = 0; i < n; i++) {
+            binomials[i][0] = 1;
+
+            for (int k = 1; k <= HandParser.HAND_SIZE && k <= i; k++) {
+                binomials[i][k] = binomials[i - 1][k - 1] + (k < i ? binomials[i - 1][k] : 0);
+            }
+        }
+
+        return binomials;
+    }
+
+    private static final class Page {
+        private final AtomicLongArray counts = new AtomicLongArray(PAGE_SIZE);
+        private final AtomicReferenceArray<PokerHand> hands = new AtomicReferenceArray<>(PAGE_SIZE);
+    }
+}
@@ -0,0 +1,217 @@
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Optional counters and latency histograms for parsing, evaluation and comparison.
+ *
+ * <p>Recording is switched on with {@code -Dpoker.metrics=true}. {@link #ENABLED} is a static
+ * final constant, so when it is off the JIT removes the guarded calls from the hot paths entirely.
+ */
+public final class HandMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("poker.metrics");
+
+    private static final LatencyHistogram PARSE = new LatencyHistogram();
+    private static final LatencyHistogram EVALUATION = new LatencyHistogram();
+    private static final LatencyHistogram COMPARISON = new LatencyHistogram();
+    private static final LatencyHistogram[] EVALUATION_BY_TYPE = new LatencyHistogram[HandType.values().length];
+    private static final LongAdder PARSE_ERRORS = new LongAdder();
+    private static final Map<String, HandCache> CACHES = new ConcurrentHashMap<>();
+
+    static {
+        for (int i = 0; i < EVALUATION_BY_TYPE.length; i++) {
+            EVALUATION_BY_TYPE[i] = new LatencyHistogram();
+        }
+    }
+
+    private HandMetrics() {
+    }
+
+    public static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    public static void recordParse(final long started) {
+        PARSE.record(System.nanoTime() - started);
+    }
+
+    public static void recordParseError() {
+        PARSE_ERRORS.increment();
+    }
+
+    public static void recordParseErrors(final long count) {
+        PARSE_ERRORS.add(count);
+    }
+
+    public static void recordEvaluation(final HandType handType, final long started) {
+        final var nanos = System.nanoTime() - started;
+
+        EVALUATION.record(nanos);
+        EVALUATION_BY_TYPE[handType.ordinal()].record(nanos);
+    }
+
+    public static void recordComparison(final long started) {
+        COMPARISON.record(System.nanoTime() - started);
+    }
+
+    public static void registerCache(final String name, final HandCache cache) {
+        CACHES.put(name, cache);
+    }
+
+    /**
+     * Stops reporting the cache registered under the name so that it can be collected.
+     */
+    public static void unregisterCache(final String name) {
+        CACHES.remove(name);
+    }
+
+    public static LatencyHistogram getParseHistogram() {
+        return PARSE;
+    }
+
+    public static LatencyHistogram getEvaluationHistogram() {
+        return EVALUATION;
+    }
+
+    public static LatencyHistogram getEvaluationHistogram(final HandType handType) {
+        return EVALUATION_BY_TYPE[handType.ordinal()];
+    }
+
+    public static LatencyHistogram getComparisonHistogram() {
+        return COMPARISON;
+    }
+
+    public static long getParseErrors() {
+        return PARSE_ERRORS.sum();
+    }
+
+    public static void reset() {
+        PARSE.reset();
+        EVALUATION.reset();
+        COMPARISON.reset();
+        PARSE_ERRORS.reset();
+
+        for (final LatencyHistogram histogram : EVALUATION_BY_TYPE) {
+            histogram.reset();
+        }
+    }
+
+    public static String report() {
+        final var report = new StringBuilder()
+            .append("parse: ").append(PARSE).append(", errors=").append(getParseErrors()).append('\n')
+            .append("evaluate: ").append(EVALUATION).append('\n');
+
+        for (final HandType handType : HandType.values()) {
+            report.append("  ").append(handType).append(": ").append(getEvaluationHistogram(handType)).append('\n');
+        }
+
+        report.append("compare: ").append(COMPARISON).append('\n');
+
+        CACHES.forEach((name, cache) -> report
+            .append("cache ").append(name)
+            .append(": hitRate=").append(String.format(Locale.ROOT, "%.4f", cache.getHitRate()))
+            .append(", evictions=").append(cache.getEvictions())
+            .append('\n'));
+
+        return report.toString();
+    }
+
+    public static void registerMBean() throws JMException {
+        final var name = new ObjectName("poker:type=HandMetrics");
+        final var server = ManagementFactory.getPlatformMBeanServer();
+
+        if (!server.isRegistered(name)) {
+            server.registerMBean(new MXBean(), name);
+        }
+    }
+
+    /**
+     * Passes {@link #report()} to the consumer at a fixed rate until the returned executor is shut down.
+     */
+    public static ScheduledExecutorService dumpPeriodically(
+        final long period,
+        final TimeUnit unit,
+        final Consumer<String> consumer
+    ) {
+        final var executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "hand-metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        executor.scheduleAtFixedRate(() -> consumer.accept(report()), period, period, unit);
+
+        return executor;
+    }
+
+    private static final class MXBean implements HandMetricsMXBean {
+
+        @Override
+        public long getParses() {
+            return PARSE.getCount();
+        }
+
+        @Override
+        public long getParseErrors() {
+            return HandMetrics.getParseErrors();
+        }
+
+        @Override
+        public long getEvaluations() {
+            return EVALUATION.getCount();
+        }
+
+        @Override
+        public long getComparisons() {
+            return COMPARISON.getCount();
+        }
+
+        @Override
+        public long getEvaluationP99Nanos() {
+            return EVALUATION.getPercentile(99);
+        }
+
+        @Override
+        public long getComparisonP99Nanos() {
+            return COMPARISON.getPercentile(99);
+        }
+
+        @Override
+        public Map<String, Long> getEvaluationsByHandType() {
+            final var counts = new LinkedHashMap<String, Long>();
+
+            for (final HandType handType : HandType.values()) {
+                counts.put(handType.name(), getEvaluationHistogram(handType).getCount());
+            }
+
+            return counts;
+        }
+
+        @Override
+        public Map<String, Double> getCacheHitRates() {
+            final var rates = new LinkedHashMap<String, Double>();
+            CACHES.forEach((name, cache) -> rates.put(name, cache.getHitRate()));
+
+            return rates;
+        }
+
+        @Override
+        public String getReport() {
+            return report();
+        }
+
+        @Override
+        public void reset() {
+            HandMetrics.reset();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+import java.util.Map;
+
+public interface HandMetricsMXBean {
+
+    long getParses();
+
+    long getParseErrors();
+
+    long getEvaluations();
+
+    long getComparisons();
+
+    long getEvaluationP99Nanos();
+
+    long getComparisonP99Nanos();
+
+    Map<String, Long> getEvaluationsByHandType();
+
+    Map<String, Double> getCacheHitRates();
+
+    String getReport();
+
+    void reset();
+}
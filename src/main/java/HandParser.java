@@ -0,0 +1,232 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Parses five space separated cards such as {@code "TC 4H 7D KC 2S"} into {@link CardCode} indexes.
+ *
+ * <p>Every overload reads the source in place starting at an offset, writes the indexes into a
+ * caller supplied array and returns the position right after the last card. Nothing is
+ * allocated unless the input is malformed.
+ */
+public final class HandParser {
+    public static final int HAND_SIZE = 5;
+
+    public static final HandParser STRICT = new HandParser(false);
+    public static final HandParser LENIENT = new HandParser(true);
+
+    private static final int NOT_FOUND = -1;
+    // A card is two characters followed by a separating space, except for the last one
+    private static final int CARD_STEP = 3;
+    private static final int HAND_CHARS = CARD_STEP * HAND_SIZE - 1;
+    private static final int[] RATING_BY_CHAR = new int[128];
+    private static final int[] SUIT_BY_CHAR = new int[128];
+
+    static {
+        Arrays.fill(RATING_BY_CHAR, NOT_FOUND);
+        Arrays.fill(SUIT_BY_CHAR, NOT_FOUND);
+
+        for (final CardRating rating : CardRating.values()) {
+            RATING_BY_CHAR[rating.getDesignation()] = rating.ordinal();
+        }
+
+        for (final CardSuit suit : CardSuit.values()) {
+            SUIT_BY_CHAR[suit.getValue()] = suit.ordinal();
+        }
+    }
+
+    private final boolean allowRepeatedCards;
+
+    private HandParser(final boolean allowRepeatedCards) {
+        this.allowRepeatedCards = allowRepeatedCards;
+    }
+
+    public static int ratingOf(final int designation) {
+        return designation < RATING_BY_CHAR.length && designation >= 0 ? RATING_BY_CHAR[designation] : NOT_FOUND;
+    }
+
+    public static int suitOf(final int value) {
+        return value < SUIT_BY_CHAR.length && value >= 0 ? SUIT_BY_CHAR[value] : NOT_FOUND;
+    }
+
+    public int parse(final CharSequence source, final int offset, final int[] destination, final int destinationOffset) {
+        parseCards(source, offset, destination, destinationOffset);
+
+        return offset + HAND_CHARS;
+    }
+
+    public int parse(final char[] source, final int offset, final int[] destination, final int destinationOffset) {
+        return parse(source, offset, source.length, destination, destinationOffset);
+    }
+
+    public int parse(
+        final char[] source,
+        final int offset,
+        final int limit,
+        final int[] destination,
+        final int destinationOffset
+    ) {
+        var mask = CardMask.EMPTY;
+
+        for (int card = 0; card < HAND_SIZE; card++) {
+            final var position = offset + CARD_STEP * card;
+
+            if (card > 0) {
+                checkSeparator(position - 1 < limit ? source[position - 1] : -1, position - 1);
+            }
+
+            checkCardLength(position, limit);
+            final var index = cardIndex(source[position], source[position + 1], position);
+            mask = addCard(mask, index, position);
+            destination[destinationOffset + card] = index;
+        }
+
+        final var end = offset + HAND_CHARS;
+        checkHandEnd(end < limit ? source[end] : -1, end);
+
+        return end;
+    }
+
+    public int parse(final byte[] source, final int offset, final int[] destination, final int destinationOffset) {
+        return parse(source, offset, source.length, destination, destinationOffset);
+    }
+
+    public int parse(
+        final byte[] source,
+        final int offset,
+        final int limit,
+        final int[] destination,
+        final int destinationOffset
+    ) {
+        var mask = CardMask.EMPTY;
+
+        for (int card = 0; card < HAND_SIZE; card++) {
+            final var position = offset + CARD_STEP * card;
+
+            if (card > 0) {
+                checkSeparator(position - 1 < limit ? source[position - 1] : -1, position - 1);
+            }
+
+            checkCardLength(position, limit);
+            final var index = cardIndex(source[position], source[position + 1], position);
+            mask = addCard(mask, index, position);
+            destination[destinationOffset + card] = index;
+        }
+
+        final var end = offset + HAND_CHARS;
+        checkHandEnd(end < limit ? source[end] : -1, end);
+
+        return end;
+    }
+
+    /**
+     * Reads with absolute indexes, so the buffer position and limit are left untouched.
+     */
+    public int parse(final ByteBuffer source, final int offset, final int[] destination, final int destinationOffset) {
+        final var limit = source.limit();
+        var mask = CardMask.EMPTY;
+
+        for (int card = 0; card < HAND_SIZE; card++) {
+            final var position = offset + CARD_STEP * card;
+
+            if (card > 0) {
+                checkSeparator(position - 1 < limit ? source.get(position - 1) : -1, position - 1);
+            }
+
+            checkCardLength(position, limit);
+            final var index = cardIndex(source.get(position), source.get(position + 1), position);
+            mask = addCard(mask, index, position);
+            destination[destinationOffset + card] = index;
+        }
+
+        final var end = offset + HAND_CHARS;
+        checkHandEnd(end < limit ? source.get(end) : -1, end);
+
+        return end;
+    }
+
+    public long parseMask(final CharSequence source, final int offset) {
+        return parseCards(source, offset, null, 0);
+    }
+
+    /**
+     * Returns the mask of the cards and writes their indexes unless the destination is null.
+     */
+    private long parseCards(
+        final CharSequence source,
+        final int offset,
+        final int[] destination,
+        final int destinationOffset
+    ) {
+        final var limit = source.length();
+        var mask = CardMask.EMPTY;
+
+        for (int card = 0; card < HAND_SIZE; card++) {
+            final var position = offset + CARD_STEP * card;
+
+            if (card > 0) {
+                checkSeparator(position - 1 < limit ? source.charAt(position - 1) : -1, position - 1);
+            }
+
+            checkCardLength(position, limit);
+            final var index = cardIndex(source.charAt(position), source.charAt(position + 1), position);
+            mask = addCard(mask, index, position);
+
+            if (destination != null) {
+                destination[destinationOffset + card] = index;
+            }
+        }
+
+        final var end = offset + HAND_CHARS;
+        checkHandEnd(end < limit ? source.charAt(end) : -1, end);
+
+        return mask;
+    }
+
+    private long addCard(final long mask, final int index, final int position) {
+        final var bit = CardCode.bit(index);
+
+        if ((mask & bit) != 0 && !allowRepeatedCards) {
+            throw new HandParseException(position, "Repeated card " + CardCode.toText(index));
+        }
+
+        return mask | bit;
+    }
+
+    private static int cardIndex(final int designation, final int suitValue, final int position) {
+        final var rating = ratingOf(designation);
+
+        if (rating == NOT_FOUND) {
+            throw new HandParseException(position, (char) designation + " not math any of card rating value");
+        }
+
+        final var suit = suitOf(suitValue);
+
+        if (suit == NOT_FOUND) {
+            throw new HandParseException(position + 1, (char) suitValue + " not math any of card suit value");
+        }
+
+        return CardCode.index(rating, suit);
+    }
+
+    private static void checkCardLength(final int position, final int limit) {
+        if (position + 2 > limit) {
+            throw new HandParseException(position, "Hand must contains 5 cards");
+        }
+    }
+
+    private static void checkSeparator(final int value, final int position) {
+        if (value == -1) {
+            throw new HandParseException(position, "Hand must contains 5 cards");
+        }
+
+        if (value != ' ') {
+            throw new HandParseException(position, "Cards must be separated by a space");
+        }
+    }
+
+    private static void checkHandEnd(final int value, final int position) {
+        if (value == ' ') {
+            throw new HandParseException(position, "Hand must contains 5 cards");
+        }
+    }
+}
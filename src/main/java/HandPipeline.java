@@ -0,0 +1,302 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads hand records line by line from an unbounded stream, parses and evaluates them in batches
+ * on a worker pool and hands the batches to a {@link HandSink} in input order.
+ *
+ * <p>At most {@code maxPendingBatches} batches are in flight between the reader and the sink;
+ * when they are all taken the reader blocks, so a slow sink slows down reading instead of
+ * filling the heap. Malformed lines are counted and skipped.
+ */
+public class HandPipeline {
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final CompletableFuture<HandBatch> END = new CompletableFuture<>();
+
+    private final int batchSize;
+    private final int workers;
+    private final int maxPendingBatches;
+
+    public HandPipeline(final int batchSize, final int workers, final int maxPendingBatches) {
+        if (batchSize <= 0 || workers <= 0 || maxPendingBatches <= 0) {
+            throw new IllegalArgumentException("Batch size, workers and pending batches must be positive");
+        }
+
+        this.batchSize = batchSize;
+        this.workers = workers;
+        this.maxPendingBatches = maxPendingBatches;
+    }
+
+    /**
+     * Evaluates every hand read from the input and passes the batches to the sink, then closes
+     * the sink, also when the run fails; the input stream is left open.
+     */
+    public PipelineStats run(final InputStream in, final HandSink sink) throws Exception {
+        return run(Channels.newChannel(in), sink);
+    }
+
+    /**
+     * Same as {@link #run(InputStream, HandSink)}; takes ownership of the sink and closes it, but
+     * not the channel.
+     */
+    public PipelineStats run(final ReadableByteChannel in, final HandSink sink) throws Exception {
+        final var stats = new PipelineStats();
+        final var pending = new ArrayBlockingQueue<CompletableFuture<HandBatch>>(maxPendingBatches);
+        final var failure = new AtomicReference<Throwable>();
+        final ExecutorService workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            final var thread = new Thread(runnable, "hand-pipeline-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final var emitter = new Thread(() -> emit(pending, sink, stats, failure), "hand-pipeline-sink");
+
+        emitter.start();
+
+        try {
+            read(in, pending, workerPool, stats, failure);
+        } catch (final Throwable e) {
+            failure.compareAndSet(null, e);
+        } finally {
+            putUninterruptibly(pending, END);
+            emitter.join();
+            workerPool.shutdown();
+        }
+
+        try (sink) {
+            final var error = failure.get();
+
+            if (error instanceof Exception) {
+                throw (Exception) error;
+            }
+
+            if (error != null) {
+                throw new IllegalStateException(error);
+            }
+        }
+
+        return stats;
+    }
+
+    private void read(
+        final ReadableByteChannel in,
+        final BlockingQueue<CompletableFuture<HandBatch>> pending,
+        final ExecutorService workerPool,
+        final PipelineStats stats,
+        final AtomicReference<Throwable> failure
+    ) throws IOException, InterruptedException {
+        final var buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        var batch = new RawBatch(batchSize, 0);
+        var sequence = 0L;
+        var line = 0L;
+        var started = System.nanoTime();
+
+        while (failure.get() == null) {
+            final var read = in.read(buffer);
+
+            if (read < 0) {
+                break;
+            }
+
+            stats.bytesRead.add(read);
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                final var value = buffer.get();
+
+                if (value != '\n') {
+                    batch.append(value);
+                    continue;
+                }
+
+                batch.endLine(line++);
+
+                if (batch.isFull()) {
+                    stats.readNanos.add(System.nanoTime() - started);
+                    submit(batch, pending, workerPool, stats);
+                    started = System.nanoTime();
+                    batch = new RawBatch(batchSize, ++sequence);
+                }
+            }
+
+            buffer.clear();
+        }
+
+        batch.endLine(line);
+        stats.readNanos.add(System.nanoTime() - started);
+
+        if (batch.linesCount > 0) {
+            submit(batch, pending, workerPool, stats);
+        }
+    }
+
+    private static void submit(
+        final RawBatch batch,
+        final BlockingQueue<CompletableFuture<HandBatch>> pending,
+        final ExecutorService workerPool,
+        final PipelineStats stats
+    ) throws InterruptedException {
+        stats.linesRead.add(batch.linesCount);
+
+        final var started = System.nanoTime();
+        pending.put(CompletableFuture.supplyAsync(() -> evaluate(batch, stats), workerPool));
+        stats.backpressureNanos.add(System.nanoTime() - started);
+    }
+
+    private static HandBatch evaluate(final RawBatch batch, final PipelineStats stats) {
+        final var started = System.nanoTime();
+        final var cardIndexes = new int[batch.linesCount * HandParser.HAND_SIZE];
+        final var strengths = new int[batch.linesCount];
+        final var lines = new long[batch.linesCount];
+        var size = 0;
+        var parseErrors = 0;
+
+        for (int i = 0; i < batch.linesCount; i++) {
+            final var start = i == 0 ? 0 : batch.lineEnds[i - 1];
+            var end = batch.lineEnds[i];
+
+            if (end > start && batch.data[end - 1] == '\r') {
+                end--;
+            }
+
+            final var offset = size * HandParser.HAND_SIZE;
+
+            try {
+                if (HandParser.LENIENT.parse(batch.data, start, end, cardIndexes, offset) != end) {
+                    parseErrors++;
+                    continue;
+                }
+            } catch (final HandParseException e) {
+                parseErrors++;
+                continue;
+            }
+
+            strengths[size] = HandEvaluator.evaluateIndexes(
+                cardIndexes[offset],
+                cardIndexes[offset + 1],
+                cardIndexes[offset + 2],
+                cardIndexes[offset + 3],
+                cardIndexes[offset + 4]
+            );
+            lines[size] = batch.lines[i];
+            size++;
+        }
+
+        stats.handsEvaluated.add(size);
+        stats.parseErrors.add(parseErrors);
+
+        if (HandMetrics.ENABLED) {
+            HandMetrics.recordParseErrors(parseErrors);
+        }
+
+        stats.evaluateNanos.add(System.nanoTime() - started);
+
+        return new HandBatch(batch.sequence, size, lines, cardIndexes, strengths, parseErrors);
+    }
+
+    private static void emit(
+        final BlockingQueue<CompletableFuture<HandBatch>> pending,
+        final HandSink sink,
+        final PipelineStats stats,
+        final AtomicReference<Throwable> failure
+    ) {
+        while (true) {
+            final CompletableFuture<HandBatch> next;
+
+            try {
+                next = pending.take();
+            } catch (final InterruptedException e) {
+                failure.compareAndSet(null, e);
+                return;
+            }
+
+            if (next == END) {
+                return;
+            }
+
+            if (failure.get() != null) {
+                continue;
+            }
+
+            try {
+                final var batch = next.join();
+                final var started = System.nanoTime();
+
+                sink.accept(batch);
+                stats.sinkNanos.add(System.nanoTime() - started);
+                stats.batchesEmitted.increment();
+            } catch (final Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    private static void putUninterruptibly(
+        final BlockingQueue<CompletableFuture<HandBatch>> pending,
+        final CompletableFuture<HandBatch> future
+    ) {
+        var interrupted = false;
+
+        while (true) {
+            try {
+                pending.put(future);
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RawBatch {
+        private final long sequence;
+        private final long[] lines;
+        private final int[] lineEnds;
+        private byte[] data;
+        private int size;
+        private int lineStart;
+        private int linesCount;
+
+        private RawBatch(final int capacity, final long sequence) {
+            this.sequence = sequence;
+            this.lines = new long[capacity];
+            this.lineEnds = new int[capacity];
+            this.data = new byte[capacity * 16];
+        }
+
+        private void append(final byte value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+
+            data[size++] = value;
+        }
+
+        private void endLine(final long line) {
+            if (size == lineStart || (size == lineStart + 1 && data[lineStart] == '\r')) {
+                size = lineStart;
+                return;
+            }
+
+            lines[linesCount] = line;
+            lineEnds[linesCount++] = size;
+            lineStart = size;
+        }
+
+        private boolean isFull() {
+            return linesCount == lines.length;
+        }
+    }
+}
@@ -0,0 +1,272 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * A set of Texas Hold'em hole card combinations, each stored as a two card {@link CardMask}.
+ *
+ * <p>Ranges are parsed from comma separated tokens:
+ * <ul>
+ *     <li>pairs: {@code TT}, {@code TT+}, {@code 22-55}</li>
+ *     <li>suited, offsuit or both: {@code AKs}, {@code AKo}, {@code AK}, {@code A2s+}, {@code A5s-A2s}</li>
+ *     <li>exact combinations: {@code AsKs} or {@code ASKS}</li>
+ *     <li>the strongest share of all combinations: {@code 20%}</li>
+ * </ul>
+ * Percentages follow starting hand equity against a random hand, estimated once with a fixed seed.
+ */
+public class HandRange {
+    public static final int ALL_COMBINATIONS = 1326;
+
+    private static final int RATINGS_COUNT = CardRating.values().length;
+
+    private final long[] combinations;
+
+    private HandRange(final long[] combinations) {
+        this.combinations = combinations;
+    }
+
+    public static HandRange parse(final String text) {
+        final var combinations = new ArrayList<Long>();
+
+        for (final String rawToken : text.split(",")) {
+            final var token = rawToken.trim();
+
+            if (token.isEmpty()) {
+                continue;
+            }
+
+            try {
+                parseToken(token, combinations);
+            } catch (final RuntimeException e) {
+                throw new IllegalArgumentException("Invalid range token '" + token + "'", e);
+            }
+        }
+
+        return new HandRange(combinations.stream().mapToLong(Long::longValue).distinct().toArray());
+    }
+
+    public static HandRange of(final long... combinations) {
+        return new HandRange(Arrays.stream(combinations).distinct().toArray());
+    }
+
+    public int size() {
+        return combinations.length;
+    }
+
+    public long get(final int index) {
+        return combinations[index];
+    }
+
+    /**
+     * Drops every combination holding one of the given cards, typically the board and dead cards.
+     */
+    public HandRange without(final long cards) {
+        return new HandRange(Arrays.stream(combinations).filter(it -> (it & cards) == 0).toArray());
+    }
+
+    private static void parseToken(final String token, final List<Long> combinations) {
+        if (token.endsWith("%")) {
+            addTopPercent(Double.parseDouble(token.substring(0, token.length() - 1)), combinations);
+            return;
+        }
+
+        if (token.length() == 4 && HandParser.suitOf(Character.toUpperCase(token.charAt(1))) >= 0) {
+            final var cards = token.toUpperCase(Locale.ROOT);
+            final var combination = CardMask.parse(cards.substring(0, 2) + ' ' + cards.substring(2));
+
+            if (CardMask.size(combination) != 2) {
+                throw new IllegalArgumentException("Combination must have 2 distinct cards");
+            }
+
+            combinations.add(combination);
+            return;
+        }
+
+        final var dash = token.indexOf('-');
+
+        if (dash > 0) {
+            final var from = token.substring(0, dash);
+            final var to = token.substring(dash + 1);
+            final var high = rating(from.charAt(0));
+
+            if (from.length() != to.length() || (high != rating(to.charAt(0)) && !isPair(from))) {
+                throw new IllegalArgumentException("Range ends must share the first card");
+            }
+
+            final var first = isPair(from) ? high : rating(from.charAt(1));
+            final var last = isPair(from) ? rating(to.charAt(0)) : rating(to.charAt(1));
+
+            for (int rating = Math.min(first, last); rating <= Math.max(first, last); rating++) {
+                if (isPair(from)) {
+                    addPair(rating, combinations);
+                } else {
+                    addClass(high, rating, suitedness(from), combinations);
+                }
+            }
+            return;
+        }
+
+        final var plus = token.endsWith("+");
+        final var hand = plus ? token.substring(0, token.length() - 1) : token;
+        final var high = rating(hand.charAt(0));
+        final var low = rating(hand.charAt(1));
+
+        if (high == low) {
+            for (int rating = high; rating <= (plus ? RATINGS_COUNT - 1 : high); rating++) {
+                addPair(rating, combinations);
+            }
+            return;
+        }
+
+        if (high < low) {
+            throw new IllegalArgumentException("Higher card must come first");
+        }
+
+        for (int rating = low; rating <= (plus ? high - 1 : low); rating++) {
+            addClass(high, rating, suitedness(hand), combinations);
+        }
+    }
+
+    private static boolean isPair(final String hand) {
+        return hand.charAt(0) == hand.charAt(1);
+    }
+
+    private static char suitedness(final String hand) {
+        return hand.length() > 2 ? hand.charAt(2) : ' ';
+    }
+
+    private static int rating(final char designation) {
+        final var rating = HandParser.ratingOf(designation);
+
+        if (rating < 0) {
+            throw new IllegalArgumentException(designation + " not math any of card rating value");
+        }
+
+        return rating;
+    }
+
+    private static void addPair(final int rating, final List<Long> combinations) {
+        for (int first = 0; first < 4; first++) {
+            for (int second = first + 1; second < 4; second++) {
+                combinations.add(CardMask.ofIndexes(CardCode.index(rating, first), CardCode.index(rating, second)));
+            }
+        }
+    }
+
+    private static void addClass(final int high, final int low, final char suitedness, final List<Long> combinations) {
+        if (suitedness != ' ' && suitedness != 's' && suitedness != 'o') {
+            throw new IllegalArgumentException("Expected s or o after the ratings");
+        }
+
+        for (int first = 0; first < 4; first++) {
+            for (int second = 0; second < 4; second++) {
+                final var suited = first == second;
+
+                if ((suitedness == 's' && !suited) || (suitedness == 'o' && suited)) {
+                    continue;
+                }
+
+                combinations.add(CardMask.ofIndexes(CardCode.index(high, first), CardCode.index(low, second)));
+            }
+        }
+    }
+
+    private static void addTopPercent(final double percent, final List<Long> combinations) {
+        if (percent < 0 || percent > 100) {
+            throw new IllegalArgumentException("Percentage must be between 0 and 100");
+        }
+
+        final var target = Math.round(ALL_COMBINATIONS * percent / 100);
+        final var added = new ArrayList<Long>();
+
+        for (final int[] startingHand : PreflopRanking.STARTING_HANDS) {
+            if (added.size() >= target) {
+                break;
+            }
+
+            if (startingHand[0] == startingHand[1]) {
+                addPair(startingHand[0], added);
+            } else {
+                addClass(startingHand[0], startingHand[1], startingHand[2] == 1 ? 's' : 'o', added);
+            }
+        }
+
+        combinations.addAll(added);
+    }
+
+    /**
+     * The 169 starting hands ordered by equity against one random hand, strongest first.
+     */
+    private static final class PreflopRanking {
+        private static final int SAMPLES = 20_000;
+        private static final int[][] STARTING_HANDS = rank();
+
+        private static int[][] rank() {
+            final var hands = new ArrayList<int[]>();
+
+            for (int high = RATINGS_COUNT - 1; high >= 0; high--) {
+                for (int low = high; low >= 0; low--) {
+                    hands.add(new int[] {high, low, 0});
+
+                    if (low != high) {
+                        hands.add(new int[] {high, low, 1});
+                    }
+                }
+            }
+
+            final var equities = new double[RATINGS_COUNT * RATINGS_COUNT * 2];
+            final var random = new SplittableRandom(0x9E3779B97F4A7C15L);
+
+            for (final int[] hand : hands) {
+                final var hole = CardMask.ofIndexes(CardCode.index(hand[0], 0), CardCode.index(hand[1], hand[2] == 1 ? 0 : 1));
+                equities[key(hand)] = equityAgainstRandomHand(hole, random.split());
+            }
+
+            hands.sort(Comparator.comparingDouble((int[] hand) -> -equities[key(hand)]));
+
+            return hands.toArray(new int[0][]);
+        }
+
+        private static int key(final int[] hand) {
+            return (hand[0] * RATINGS_COUNT + hand[1]) * 2 + hand[2];
+        }
+
+        private static double equityAgainstRandomHand(final long hole, final SplittableRandom random) {
+            var shares = 0.0;
+
+            for (int sample = 0; sample < SAMPLES; sample++) {
+                var used = hole;
+                var opponent = CardMask.EMPTY;
+                var board = CardMask.EMPTY;
+
+                for (int card = 0; card < 7; card++) {
+                    int index;
+
+                    do {
+                        index = random.nextInt(CardCode.CARDS_COUNT);
+                    } while (CardMask.contains(used, index));
+
+                    used |= CardCode.bit(index);
+
+                    if (card < 2) {
+                        opponent |= CardCode.bit(index);
+                    } else {
+                        board |= CardCode.bit(index);
+                    }
+                }
+
+                final var result = Integer.compare(
+                    SevenCardEvaluator.evaluate(hole | board),
+                    SevenCardEvaluator.evaluate(opponent | board)
+                );
+
+                shares += result > 0 ? 1 : result == 0 ? 0.5 : 0;
+            }
+
+            return shares / SAMPLES;
+        }
+    }
+}
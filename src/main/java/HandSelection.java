@@ -0,0 +1,101 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Winner and top-K selection over packed hand strengths without sorting the whole input.
+ */
+public final class HandSelection {
+
+    private HandSelection() {
+    }
+
+    /**
+     * Writes the positions of every hand sharing the best strength into {@code winners} and
+     * returns how many there are, so split pots come out as more than one winner.
+     */
+    public static int winners(final int[] strengths, final int size, final int[] winners) {
+        var best = Integer.MIN_VALUE;
+        var count = 0;
+
+        for (int i = 0; i < size; i++) {
+            final var strength = strengths[i];
+
+            if (strength > best) {
+                best = strength;
+                count = 0;
+            }
+
+            if (strength == best) {
+                winners[count++] = i;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Same as {@link #winners(int[], int, int[])} for tables of up to 64 seats, one bit per winning seat.
+     */
+    public static long winnersMask(final int[] strengths, final int size) {
+        if (size > Long.SIZE) {
+            throw new IllegalArgumentException("Winners mask supports up to 64 hands");
+        }
+
+        var best = Integer.MIN_VALUE;
+        var winners = 0L;
+
+        for (int i = 0; i < size; i++) {
+            final var strength = strengths[i];
+
+            if (strength > best) {
+                best = strength;
+                winners = 0L;
+            }
+
+            if (strength == best) {
+                winners |= 1L << i;
+            }
+        }
+
+        return winners;
+    }
+
+    public static List<PokerHand> winners(final List<PokerHand> hands) {
+        final var winners = new ArrayList<PokerHand>();
+        var best = Integer.MIN_VALUE;
+
+        for (final PokerHand hand : hands) {
+            if (hand.getStrength() > best) {
+                best = hand.getStrength();
+                winners.clear();
+            }
+
+            if (hand.getStrength() == best) {
+                winners.add(hand);
+            }
+        }
+
+        return winners;
+    }
+
+    /**
+     * Returns the positions of the {@code k} strongest hands, strongest first, in O(n log k).
+     * Among equal hands the one with the lower position ranks higher.
+     */
+    public static int[] topK(final int[] strengths, final int k) {
+        final var top = new TopHands(k, strengths.length);
+
+        for (final int strength : strengths) {
+            top.offer(strength);
+        }
+
+        return top.toSequences();
+    }
+
+    public static List<PokerHand> topK(final Iterable<PokerHand> hands, final int k) {
+        final var top = new TopHands(k);
+        top.offerAll(hands);
+
+        return top.toList();
+    }
+}
@@ -0,0 +1,388 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * HTTP front end to hand evaluation on the JDK built-in server.
+ *
+ * <p>{@code POST /evaluate}, {@code /compare}, {@code /sort} and {@code /rank} take a batch of hands
+ * either as a JSON array of strings such as {@code ["KC KH 7D 2C 5S"]}, or, with the
+ * {@code application/octet-stream} content type, as five {@link CardCode} index bytes per hand.
+ * Responses use the request format:
+ * <ul>
+ *     <li>evaluate: strength and {@link HandType} per hand, big-endian ints in binary</li>
+ *     <li>compare: -1, 0 or 1 for every consecutive pair of hands, one byte each in binary</li>
+ *     <li>sort: the hands from the weakest to the strongest, equal hands in request order</li>
+ *     <li>rank: 1 for the strongest hands, ties sharing a rank, big-endian ints in binary</li>
+ * </ul>
+ * Hands from concurrent requests are evaluated together by an {@link EvaluationBatcher}.
+ * {@code GET /stats} reports the request and evaluation batch counts and latency percentiles in
+ * microseconds. Requests run on virtual threads when the JDK provides them.
+ */
+public final class HandServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_BATCH_HANDS = 1 << 16;
+
+    private static final long EVALUATION_TIMEOUT_SECONDS = 30;
+    private static final String JSON = "application/json";
+    private static final String BINARY = "application/octet-stream";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final EvaluationBatcher batcher;
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    private HandServer(final HttpServer server, final ExecutorService executor, final EvaluationBatcher batcher) {
+        this.server = server;
+        this.executor = executor;
+        this.batcher = batcher;
+    }
+
+    public static HandServer start(final InetSocketAddress address, final int maxBatchHands) throws IOException {
+        final var server = HttpServer.create(address, 0);
+        final var executor = newExecutor();
+        final var handServer = new HandServer(server, executor, new EvaluationBatcher(maxBatchHands));
+
+        server.createContext("/evaluate", exchange -> handServer.handle(exchange, Operation.EVALUATE));
+        server.createContext("/compare", exchange -> handServer.handle(exchange, Operation.COMPARE));
+        server.createContext("/sort", exchange -> handServer.handle(exchange, Operation.SORT));
+        server.createContext("/rank", exchange -> handServer.handle(exchange, Operation.RANK));
+        server.createContext("/stats", handServer::stats);
+        server.setExecutor(executor);
+        server.start();
+
+        return handServer;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    public long getBatchesCount() {
+        return batcher.getBatches();
+    }
+
+    public long getBatchedRequestsCount() {
+        return batcher.getRequests();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        batcher.close();
+    }
+
+    private void handle(final HttpExchange exchange, final Operation operation) throws IOException {
+        final var started = System.nanoTime();
+
+        try {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                respond(exchange, 405, JSON, error("Use POST"));
+                return;
+            }
+
+            final var contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+            final var binary = contentType != null && contentType.startsWith(BINARY);
+            final var body = exchange.getRequestBody().readAllBytes();
+            final var cardIndexes = binary ? readBinary(body) : readJson(new String(body, StandardCharsets.UTF_8));
+            final var strengths = batcher.evaluate(cardIndexes).get(EVALUATION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            final var response = binary
+                ? writeBinary(operation, cardIndexes, strengths)
+                : writeJson(operation, cardIndexes, strengths);
+
+            respond(exchange, 200, binary ? BINARY : JSON, response);
+        } catch (final IllegalArgumentException e) {
+            respond(exchange, 400, JSON, error(e.getMessage()));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 503, JSON, error("Server is stopping"));
+        } catch (final TimeoutException e) {
+            respond(exchange, 503, JSON, error("Evaluation timed out"));
+        } catch (final ExecutionException e) {
+            respond(exchange, 500, JSON, error(String.valueOf(e.getCause().getMessage())));
+        } finally {
+            exchange.close();
+            latency.record(System.nanoTime() - started);
+        }
+    }
+
+    private void stats(final HttpExchange exchange) throws IOException {
+        try {
+            final var json = String.format(
+                Locale.ROOT,
+                "{\"requests\":%d,\"batches\":%d,\"meanMicros\":%.1f,\"p50Micros\":%d,\"p99Micros\":%d,\"p999Micros\":%d}",
+                latency.getCount(),
+                batcher.getBatches(),
+                latency.getMean() / 1_000,
+                latency.getPercentile(50) / 1_000,
+                latency.getPercentile(99) / 1_000,
+                latency.getPercentile(99.9) / 1_000
+            );
+
+            respond(exchange, 200, JSON, json.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static int[] readJson(final String body) {
+        final var hands = parseStrings(body);
+        final var cardIndexes = new int[hands.size() * HandParser.HAND_SIZE];
+
+        for (int hand = 0; hand < hands.size(); hand++) {
+            final var text = hands.get(hand);
+            final var end = HandParser.LENIENT.parse(text, 0, cardIndexes, hand * HandParser.HAND_SIZE);
+
+            if (end != text.length()) {
+                throw new HandParseException(end, "Hand must contains 5 cards");
+            }
+        }
+
+        return cardIndexes;
+    }
+
+    private static int[] readBinary(final byte[] body) {
+        if (body.length % HandParser.HAND_SIZE != 0) {
+            throw new IllegalArgumentException("Hand must contains 5 cards");
+        }
+
+        final var cardIndexes = new int[body.length];
+
+        for (int i = 0; i < body.length; i++) {
+            cardIndexes[i] = body[i];
+
+            if (cardIndexes[i] < 0 || cardIndexes[i] >= CardCode.CARDS_COUNT) {
+                throw new IllegalArgumentException("Card code must be below " + CardCode.CARDS_COUNT + " at byte " + i);
+            }
+        }
+
+        return cardIndexes;
+    }
+
+    private static byte[] writeJson(final Operation operation, final int[] cardIndexes, final int[] strengths) {
+        final var json = new StringBuilder(strengths.length * 16).append('[');
+
+        switch (operation) {
+            case EVALUATE:
+                for (int hand = 0; hand < strengths.length; hand++) {
+                    json.append(hand == 0 ? "" : ",")
+                        .append("{\"strength\":").append(strengths[hand])
+                        .append(",\"type\":\"").append(HandType.fromStrength(strengths[hand])).append("\"}");
+                }
+                break;
+            case COMPARE:
+                final var results = compare(strengths);
+
+                for (int pair = 0; pair < results.length; pair++) {
+                    json.append(pair == 0 ? "" : ",").append(results[pair]);
+                }
+                break;
+            case SORT:
+                final var order = StrengthSorter.sortedOrder(strengths, false);
+
+                for (int position = 0; position < order.length; position++) {
+                    json.append(position == 0 ? "\"" : ",\"");
+                    appendHand(json, cardIndexes, order[position]);
+                    json.append('"');
+                }
+                break;
+            case RANK:
+                final var ranks = rank(strengths);
+
+                for (int hand = 0; hand < ranks.length; hand++) {
+                    json.append(hand == 0 ? "" : ",").append(ranks[hand]);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown operation " + operation);
+        }
+
+        return json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] writeBinary(final Operation operation, final int[] cardIndexes, final int[] strengths) {
+        final var bytes = new ByteArrayOutputStream(strengths.length * Integer.BYTES);
+        final var output = new DataOutputStream(bytes);
+
+        try {
+            switch (operation) {
+                case EVALUATE:
+                    for (final int strength : strengths) {
+                        output.writeInt(strength);
+                    }
+                    break;
+                case COMPARE:
+                    for (final int result : compare(strengths)) {
+                        output.writeByte(result);
+                    }
+                    break;
+                case SORT:
+                    for (final int hand : StrengthSorter.sortedOrder(strengths, false)) {
+                        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+                            output.writeByte(cardIndexes[hand * HandParser.HAND_SIZE + card]);
+                        }
+                    }
+                    break;
+                case RANK:
+                    for (final int rank : rank(strengths)) {
+                        output.writeInt(rank);
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown operation " + operation);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    private static int[] compare(final int[] strengths) {
+        if (strengths.length % 2 != 0) {
+            throw new IllegalArgumentException("Hands must come in pairs to compare");
+        }
+
+        final var results = new int[strengths.length / 2];
+
+        for (int pair = 0; pair < results.length; pair++) {
+            results[pair] = Integer.compare(strengths[2 * pair], strengths[2 * pair + 1]);
+        }
+
+        return results;
+    }
+
+    private static int[] rank(final int[] strengths) {
+        final var order = StrengthSorter.sortedOrder(strengths, true);
+        final var ranks = new int[strengths.length];
+
+        for (int position = 0; position < order.length; position++) {
+            final var hand = order[position];
+            final var tied = position > 0 && strengths[order[position - 1]] == strengths[hand];
+
+            ranks[hand] = tied ? ranks[order[position - 1]] : position + 1;
+        }
+
+        return ranks;
+    }
+
+    private static void appendHand(final StringBuilder json, final int[] cardIndexes, final int hand) {
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            json.append(card == 0 ? "" : " ").append(CardCode.toText(cardIndexes[hand * HandParser.HAND_SIZE + card]));
+        }
+    }
+
+    /**
+     * Parses a JSON array of strings without escape sequences, which hands never need.
+     */
+    private static List<String> parseStrings(final String json) {
+        final var strings = new ArrayList<String>();
+        var position = skipSpaces(json, 0);
+
+        if (position == json.length() || json.charAt(position) != '[') {
+            throw new IllegalArgumentException("Expected a JSON array of hands");
+        }
+
+        position = skipSpaces(json, position + 1);
+        var closed = position < json.length() && json.charAt(position) == ']';
+
+        if (closed) {
+            position++;
+        }
+
+        while (!closed) {
+            if (position == json.length() || json.charAt(position) != '"') {
+                throw new IllegalArgumentException("Expected a string at position " + position);
+            }
+
+            final var end = json.indexOf('"', position + 1);
+
+            if (end < 0 || json.lastIndexOf('\\', end) > position) {
+                throw new IllegalArgumentException("Unterminated or escaped string at position " + position);
+            }
+
+            strings.add(json.substring(position + 1, end));
+            position = skipSpaces(json, end + 1);
+
+            if (position == json.length() || (json.charAt(position) != ',' && json.charAt(position) != ']')) {
+                throw new IllegalArgumentException("Expected , or ] at position " + position);
+            }
+
+            closed = json.charAt(position) == ']';
+            position = skipSpaces(json, position + 1);
+        }
+
+        if (skipSpaces(json, position) != json.length()) {
+            throw new IllegalArgumentException("Unexpected content after the array at position " + position);
+        }
+
+        return strings;
+    }
+
+    private static int skipSpaces(final String text, final int from) {
+        var position = from;
+
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+
+        return position;
+    }
+
+    private static byte[] error(final String message) {
+        final var escaped = message.replace("\\", "\\\\").replace("\"", "\\\"");
+
+        return ("{\"error\":\"" + escaped + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void respond(
+        final HttpExchange exchange,
+        final int status,
+        final String contentType,
+        final byte[] body
+    ) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+
+        if (body.length > 0) {
+            exchange.getResponseBody().write(body);
+        }
+    }
+
+    private static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(4 * Runtime.getRuntime().availableProcessors(), runnable -> {
+                final var thread = new Thread(runnable, "hand-server-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private enum Operation {
+        EVALUATE,
+        COMPARE,
+        SORT,
+        RANK
+    }
+}
@@ -0,0 +1,17 @@
+import java.io.IOException;
+
+/**
+ * Receives evaluated batches from a {@link HandPipeline}, one at a time and in input order.
+ *
+ * <p>The pipeline owns the sink for the duration of a run and closes it when the run ends,
+ * normally or not, so a sink cannot be reused across runs.
+ */
+@FunctionalInterface
+public interface HandSink extends AutoCloseable {
+
+    void accept(HandBatch batch) throws Exception;
+
+    @Override
+    default void close() throws IOException {
+    }
+}
@@ -0,0 +1,324 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Columnar store of evaluated five card hands kept outside the heap.
+ *
+ * <p>Rows are grouped in chunks of {@code chunkHands} hands, each chunk holding a column of packed
+ * {@link CardCode} indexes, a column of strengths and a column of {@link HandType} ordinals. Chunks
+ * are direct buffers, or regions of a memory-mapped file laid out as a header followed by the
+ * chunks, so a persisted store reopens by mapping the file again.
+ *
+ * <p>Appends must come from one thread at a time; reads and {@link #forEachSorted} keep no shared
+ * scratch state.
+ */
+public final class HandStore implements AutoCloseable {
+    public static final int DEFAULT_CHUNK_HANDS = 1 << 24;
+
+    private static final int MAGIC = 0x50485354;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+    private static final int CHUNK_HANDS_OFFSET = 8;
+    private static final int SIZE_OFFSET = 16;
+    private static final int CARD_BITS = 6;
+    private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+    private static final int ROW_BYTES = Integer.BYTES + Integer.BYTES + Byte.BYTES;
+    private static final HandType[] HAND_TYPES = HandType.values();
+
+    private final int chunkShift;
+    private final int chunkHands;
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private long size;
+
+    private HandStore(final int chunkHands, final FileChannel channel, final MappedByteBuffer header, final long size) {
+        checkChunkHands(chunkHands);
+
+        this.chunkShift = Integer.numberOfTrailingZeros(chunkHands);
+        this.chunkHands = chunkHands;
+        this.channel = channel;
+        this.header = header;
+        this.size = size;
+    }
+
+    /**
+     * Creates an empty store backed by direct buffers.
+     */
+    public static HandStore allocate(final int chunkHands) {
+        return new HandStore(chunkHands, null, null, 0);
+    }
+
+    /**
+     * Creates an empty store persisted to the file, replacing its content.
+     */
+    public static HandStore create(final Path path, final int chunkHands) throws IOException {
+        checkChunkHands(chunkHands);
+
+        final var channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+
+        try {
+            final var header = mapHeader(channel);
+            header.putInt(0, MAGIC);
+            header.putInt(Integer.BYTES, VERSION);
+            header.putInt(CHUNK_HANDS_OFFSET, chunkHands);
+            header.putLong(SIZE_OFFSET, 0);
+
+            return new HandStore(chunkHands, channel, header, 0);
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Maps a store persisted by {@link #create(Path, int)}; hands can be read and appended at once.
+     */
+    public static HandStore open(final Path path) throws IOException {
+        final var channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Not a hand store file: " + path);
+            }
+
+            final var header = mapHeader(channel);
+
+            if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != VERSION) {
+                throw new IOException("Not a hand store file: " + path);
+            }
+
+            final var store = new HandStore(header.getInt(CHUNK_HANDS_OFFSET), channel, header, header.getLong(SIZE_OFFSET));
+
+            for (long row = 0; row < store.size; row += store.chunkHands) {
+                store.addChunk();
+            }
+
+            return store;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public long add(final PokerHand hand) {
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            indexes[card] = CardCode.index(hand.getCards().get(card));
+        }
+
+        return add(indexes, 0, hand.getStrength());
+    }
+
+    /**
+     * Appends the five {@link CardCode} indexes starting at {@code offset} and returns the row.
+     */
+    public long add(final int[] cardIndexes, final int offset) {
+        final var strength = HandEvaluator.evaluateIndexes(
+            cardIndexes[offset],
+            cardIndexes[offset + 1],
+            cardIndexes[offset + 2],
+            cardIndexes[offset + 3],
+            cardIndexes[offset + 4]
+        );
+
+        return add(cardIndexes, offset, strength);
+    }
+
+    private long add(final int[] cardIndexes, final int offset, final int strength) {
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Hand store is full");
+        }
+
+        final var row = size;
+        final var position = (int) (row & (chunkHands - 1));
+
+        if (position == 0) {
+            addChunk();
+        }
+
+        var cards = 0;
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            cards |= cardIndexes[offset + card] << (card * CARD_BITS);
+        }
+
+        final var chunk = chunks.get((int) (row >>> chunkShift));
+        chunk.putInt(position * Integer.BYTES, cards);
+        chunk.putInt((chunkHands + position) * Integer.BYTES, strength);
+        chunk.put(2 * chunkHands * Integer.BYTES + position, (byte) HandType.fromStrength(strength).ordinal());
+
+        size = row + 1;
+
+        if (header != null) {
+            header.putLong(SIZE_OFFSET, size);
+        }
+
+        return row;
+    }
+
+    public int getCardIndex(final long row, final int card) {
+        return (chunk(row).getInt(position(row) * Integer.BYTES) >>> (card * CARD_BITS)) & CARD_MASK;
+    }
+
+    public int getStrength(final long row) {
+        return chunk(row).getInt((chunkHands + position(row)) * Integer.BYTES);
+    }
+
+    public HandType getHandType(final long row) {
+        return HAND_TYPES[chunk(row).get(2 * chunkHands * Integer.BYTES + position(row))];
+    }
+
+    public String toText(final long row) {
+        final var text = new StringBuilder(HandParser.HAND_SIZE * 3);
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            if (card > 0) {
+                text.append(' ');
+            }
+
+            text.append(CardCode.toText(getCardIndex(row, card)));
+        }
+
+        return text.toString();
+    }
+
+    /**
+     * Returns the number of hands of every {@link HandType}, indexed by ordinal.
+     */
+    public long[] countByType() {
+        final var counts = new long[HAND_TYPES.length];
+
+        forEachChunk((chunk, typesOffset, rows) -> {
+            for (int position = 0; position < rows; position++) {
+                counts[chunk.get(typesOffset + position)]++;
+            }
+        });
+
+        return counts;
+    }
+
+    /**
+     * Passes the rows holding hands of the type to the action in row order.
+     */
+    public void forEachOfType(final HandType handType, final LongConsumer action) {
+        final var ordinal = (byte) handType.ordinal();
+        final var firstRow = new long[1];
+
+        forEachChunk((chunk, typesOffset, rows) -> {
+            for (int position = 0; position < rows; position++) {
+                if (chunk.get(typesOffset + position) == ordinal) {
+                    action.accept(firstRow[0] + position);
+                }
+            }
+
+            firstRow[0] += rows;
+        });
+    }
+
+    /**
+     * Passes every row to the action ordered by strength, equal hands in row order. The order is
+     * built by {@link StrengthSorter} into heap arrays of twelve bytes per row, allocated per call.
+     */
+    public void forEachSorted(final boolean descending, final LongConsumer action) {
+        final var order = StrengthSorter.sortedOrder(row -> getStrength(row), (int) size, descending);
+
+        for (final int row : order) {
+            action.accept(row);
+        }
+    }
+
+    /**
+     * Flushes a mapped store to its file; direct buffers have nothing to flush.
+     */
+    public void flush() {
+        if (header == null) {
+            return;
+        }
+
+        for (final ByteBuffer chunk : chunks) {
+            ((MappedByteBuffer) chunk).force();
+        }
+
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            flush();
+            channel.close();
+        }
+    }
+
+    private void addChunk() {
+        final var bytes = chunkHands * ROW_BYTES;
+
+        if (channel == null) {
+            chunks.add(ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN));
+            return;
+        }
+
+        try {
+            final var offset = HEADER_BYTES + (long) chunks.size() * bytes;
+            chunks.add(channel.map(FileChannel.MapMode.READ_WRITE, offset, bytes).order(ByteOrder.LITTLE_ENDIAN));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void forEachChunk(final ChunkAction action) {
+        for (int chunk = 0; chunk < chunks.size(); chunk++) {
+            final var rows = (int) Math.min(chunkHands, size - ((long) chunk << chunkShift));
+            action.run(chunks.get(chunk), 2 * chunkHands * Integer.BYTES, rows);
+        }
+    }
+
+    private ByteBuffer chunk(final long row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of " + size);
+        }
+
+        return chunks.get((int) (row >>> chunkShift));
+    }
+
+    private int position(final long row) {
+        return (int) (row & (chunkHands - 1));
+    }
+
+    private static void checkChunkHands(final int chunkHands) {
+        if (chunkHands <= 0 || Integer.bitCount(chunkHands) != 1 || (long) chunkHands * ROW_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk hands count must be a power of two below 2^28");
+        }
+    }
+
+    private static MappedByteBuffer mapHeader(final FileChannel channel) throws IOException {
+        return (MappedByteBuffer) channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        void run(ByteBuffer chunk, int typesOffset, int rows);
+    }
+}
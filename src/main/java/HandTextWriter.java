@@ -0,0 +1,37 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes one {@code "<line> <cards> <hand type>"} record per evaluated hand.
+ */
+public class HandTextWriter implements HandSink {
+    private final BufferedWriter writer;
+
+    public HandTextWriter(final OutputStream out) {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII), 1 << 16);
+    }
+
+    @Override
+    public void accept(final HandBatch batch) throws IOException {
+        for (int hand = 0; hand < batch.size(); hand++) {
+            writer.write(Long.toString(batch.getLine(hand)));
+
+            for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+                writer.write(' ');
+                writer.write(CardCode.toText(batch.getCardIndex(hand, card)));
+            }
+
+            writer.write(' ');
+            writer.write(batch.getHandType(hand).name());
+            writer.write('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
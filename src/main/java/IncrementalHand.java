@@ -0,0 +1,133 @@
+/**
+ * Mutable set of distinct cards dealt one at a time, for example flop, turn and river.
+ *
+ * <p>Adding or removing a card updates per rating and per suit counts, the ratings held at least
+ * once to four times and the card mask in constant time. The best hand is evaluated from those
+ * on request by {@link SevenCardEvaluator} and kept until the cards change, so loops can deal a
+ * shared prefix once and only add and remove the cards that differ.
+ */
+public final class IncrementalHand {
+    private static final int SUITS_COUNT = CardSuit.values().length;
+    private static final int FLUSH_SIZE = 5;
+    private static final int NOT_EVALUATED = -1;
+
+    private final int[] ratingCounts = new int[CardRating.values().length];
+    private final int[] suitCounts = new int[SUITS_COUNT];
+    private final int[] ratingsByCount = new int[SUITS_COUNT + 1];
+    private long mask = CardMask.EMPTY;
+    private int size;
+    private int strength = NOT_EVALUATED;
+
+    public IncrementalHand() {
+    }
+
+    public IncrementalHand(final long mask) {
+        addAll(mask);
+    }
+
+    public void add(final Card card) {
+        add(CardCode.index(card));
+    }
+
+    public void remove(final Card card) {
+        remove(CardCode.index(card));
+    }
+
+    public void add(final int cardIndex) {
+        if (CardMask.contains(mask, cardIndex)) {
+            throw new IllegalArgumentException(CardCode.toText(cardIndex) + " is already dealt");
+        }
+
+        final var rating = CardCode.rating(cardIndex);
+        final var count = ++ratingCounts[rating];
+
+        ratingsByCount[count] |= 1 << rating;
+        suitCounts[CardCode.suit(cardIndex)]++;
+        mask |= CardCode.bit(cardIndex);
+        size++;
+        strength = NOT_EVALUATED;
+    }
+
+    public void remove(final int cardIndex) {
+        if (!CardMask.contains(mask, cardIndex)) {
+            throw new IllegalArgumentException(CardCode.toText(cardIndex) + " is not dealt");
+        }
+
+        final var rating = CardCode.rating(cardIndex);
+        final var count = ratingCounts[rating]--;
+
+        ratingsByCount[count] &= ~(1 << rating);
+        suitCounts[CardCode.suit(cardIndex)]--;
+        mask &= ~CardCode.bit(cardIndex);
+        size--;
+        strength = NOT_EVALUATED;
+    }
+
+    public void addAll(final long cards) {
+        var remaining = cards;
+
+        while (remaining != 0) {
+            add(CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+    }
+
+    public void removeAll(final long cards) {
+        var remaining = cards;
+
+        while (remaining != 0) {
+            remove(CardCode.indexOfBit(Long.numberOfTrailingZeros(remaining)));
+            remaining &= remaining - 1;
+        }
+    }
+
+    public void clear() {
+        removeAll(mask);
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRatingCount(final CardRating rating) {
+        return ratingCounts[rating.ordinal()];
+    }
+
+    /**
+     * Returns the strength of the best five cards dealt, comparable with {@link PokerHand#getStrength()};
+     * fewer cards are ranked as the best hand they already make.
+     */
+    public int getStrength() {
+        if (strength == NOT_EVALUATED) {
+            strength = SevenCardEvaluator.evaluateRatings(
+                flushRatings(),
+                ratingsByCount[1],
+                ratingsByCount[2],
+                ratingsByCount[3],
+                ratingsByCount[4],
+                SevenCardEvaluator.NO_WHEEL,
+                false
+            );
+        }
+
+        return strength;
+    }
+
+    public HandType getHandType() {
+        return HandType.fromStrength(getStrength());
+    }
+
+    private int flushRatings() {
+        for (int suit = 0; suit < SUITS_COUNT; suit++) {
+            if (suitCounts[suit] >= FLUSH_SIZE) {
+                return CardMask.suitRatings(mask, suit);
+            }
+        }
+
+        return 0;
+    }
+}
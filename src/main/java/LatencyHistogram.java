@@ -0,0 +1,108 @@
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear latency histogram in the spirit of HdrHistogram: every power of two is split into
+ * four buckets, so recorded values are kept within 25% precision. Buckets are {@link LongAdder}s
+ * and recording never blocks.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS_COUNT = 64 * SUB_BUCKETS;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(final long nanos) {
+        final var value = Math.max(0, nanos);
+
+        buckets[bucketOf(value)].increment();
+        count.increment();
+        total.add(value);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        final var recorded = getCount();
+
+        return recorded == 0 ? 0 : (double) total.sum() / recorded;
+    }
+
+    /**
+     * Lower bound of the bucket holding the given percentile, between 0 and 100.
+     */
+    public long getPercentile(final double percentile) {
+        final var recorded = getCount();
+
+        if (recorded == 0) {
+            return 0;
+        }
+
+        final var rank = (long) Math.ceil(recorded * percentile / 100);
+        var seen = 0L;
+
+        for (int bucket = 0; bucket < BUCKETS_COUNT; bucket++) {
+            seen += buckets[bucket].sum();
+
+            if (seen >= rank && seen > 0) {
+                return lowerBound(bucket);
+            }
+        }
+
+        return lowerBound(BUCKETS_COUNT - 1);
+    }
+
+    public void reset() {
+        for (final LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+
+        count.reset();
+        total.reset();
+    }
+
+    static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final var magnitude = 63 - Long.numberOfLeadingZeros(value);
+        final var subBucket = (int) (value >>> (magnitude - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+
+        final var magnitude = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+
+        return (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ROOT,
+            "count=%d, mean=%.1fns, p50=%dns, p99=%dns, p99.9=%dns",
+            getCount(),
+            getMean(),
+            getPercentile(50),
+            getPercentile(99),
+            getPercentile(99.9)
+        );
+    }
+}
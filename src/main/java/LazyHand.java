@@ -0,0 +1,84 @@
+/**
+ * Five distinct cards compared as late as possible: the {@link HandType} comes first from a cheap
+ * fingerprint, distinct ratings with flush, straight and multiplicity bits, and the full strength
+ * with its kickers is evaluated only when both hands have the same type.
+ *
+ * <p>Both results are cached on the hand once computed. Caching is a benign race, as in
+ * {@link String#hashCode()}: concurrent callers may compute the same value twice, never a wrong one.
+ */
+public final class LazyHand implements Comparable<LazyHand> {
+    private static final int NOT_COMPUTED = -1;
+    private static final HandType[] HAND_TYPES = HandType.values();
+
+    private final long mask;
+    private int handType = NOT_COMPUTED;
+    private int strength = NOT_COMPUTED;
+
+    public LazyHand(final long mask) {
+        if (CardMask.size(mask) != HandParser.HAND_SIZE) {
+            throw new IllegalArgumentException("Hand must contains 5 cards");
+        }
+
+        this.mask = mask;
+    }
+
+    public static LazyHand parse(final CharSequence cards) {
+        return new LazyHand(CardMask.parse(cards));
+    }
+
+    public long getMask() {
+        return mask;
+    }
+
+    public HandType getHandType() {
+        return HAND_TYPES[handTypeOrdinal()];
+    }
+
+    public int getStrength() {
+        var computed = strength;
+
+        if (computed == NOT_COMPUTED) {
+            computed = SevenCardEvaluator.evaluate(mask);
+            strength = computed;
+        }
+
+        return computed;
+    }
+
+    /**
+     * Orders hands like {@link PokerHand#compareTo(PokerHand)}, evaluating kickers only on a type tie.
+     */
+    @Override
+    public int compareTo(final LazyHand other) {
+        final var byType = Integer.compare(handTypeOrdinal(), other.handTypeOrdinal());
+
+        return byType != 0 ? byType : Integer.compare(getStrength(), other.getStrength());
+    }
+
+    public boolean beats(final LazyHand other) {
+        return compareTo(other) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return CardMask.toString(mask);
+    }
+
+    private int handTypeOrdinal() {
+        var computed = handType;
+
+        if (computed == NOT_COMPUTED) {
+            computed = strength != NOT_COMPUTED
+                ? HandType.fromStrength(strength).ordinal()
+                : BatchClassifier.classify(
+                    CardMask.suitRatings(mask, 0),
+                    CardMask.suitRatings(mask, 1),
+                    CardMask.suitRatings(mask, 2),
+                    CardMask.suitRatings(mask, 3)
+                );
+            handType = computed;
+        }
+
+        return computed;
+    }
+}
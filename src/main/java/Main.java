@@ -1,15 +1,157 @@
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Collections;
 
 public class Main {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && "sort".equals(args[0])) {
+            sortFile(args);
+            return;
+        }
+
+        if (args.length > 0 && "ranks".equals(args[0])) {
+            generateRanks(args);
+            return;
+        }
+
+        if (args.length > 0 && "verify".equals(args[0])) {
+            verifyRanks(args);
+            return;
+        }
+
+        if (args.length > 0 && "simulate".equals(args[0])) {
+            simulate(args);
+            return;
+        }
+
+        if (args.length > 0 && "serve".equals(args[0])) {
+            serve(args);
+            return;
+        }
+
         final var hands = new ArrayList<PokerHand>();
 
         hands.add(new PokerHand("2S 3S 4S 5S 6S"));
         hands.add(new PokerHand("TC 4H 7D KC 2S"));
-        Collections.sort(hands);
 
-        System.out.println(hands);
+        System.out.println(StrengthSorter.sort(hands, false));
+    }
+
+    private static void sortFile(final String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: sort <input> <output> [--indices] [--chunk-size <hands>]");
+            System.exit(1);
+        }
+
+        var writeLineIndexes = false;
+        var chunkSize = HandFileSorter.DEFAULT_CHUNK_SIZE;
+
+        for (int i = 3; i < args.length; i++) {
+            if ("--indices".equals(args[i])) {
+                writeLineIndexes = true;
+            } else if ("--chunk-size".equals(args[i]) && i + 1 < args.length) {
+                chunkSize = Integer.parseInt(args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final var started = System.nanoTime();
+        final var sorted = new HandFileSorter(chunkSize, writeLineIndexes).sort(Path.of(args[1]), Path.of(args[2]));
+
+        System.out.println("Sorted " + sorted + " hands in " + (System.nanoTime() - started) / 1_000_000 + " ms");
+    }
+
+    private static void serve(final String[] args) throws IOException {
+        var port = HandServer.DEFAULT_PORT;
+        var maxBatchHands = HandServer.DEFAULT_MAX_BATCH_HANDS;
+
+        for (int i = 1; i < args.length; i++) {
+            if ("--port".equals(args[i]) && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            } else if ("--batch-size".equals(args[i]) && i + 1 < args.length) {
+                maxBatchHands = Integer.parseInt(args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        final var server = HandServer.start(new InetSocketAddress(port), maxBatchHands);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        System.out.println("Serving hands on port " + server.getPort());
+    }
+
+    private static void generateRanks(final String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("Usage: ranks <cards> <output>");
+            System.exit(1);
+        }
+
+        final var started = System.nanoTime();
+        final var table = RankTable.generate(Integer.parseInt(args[1]), Path.of(args[2]));
+
+        System.out.println(
+            "Ranked " + table.size() + " hands into " + table.getRanksCount() + " ranks in "
+                + (System.nanoTime() - started) / 1_000_000 + " ms"
+        );
+    }
+
+    private static void verifyRanks(final String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: verify <cards> [table]");
+            System.exit(1);
+        }
+
+        final var started = System.nanoTime();
+        final var table = args.length == 3 ? RankTable.load(Path.of(args[2])) : null;
+        final var mismatches = RankTable.verify(Integer.parseInt(args[1]), table);
+
+        System.out.println(
+            "Verified " + RankTable.binomial(CardCode.CARDS_COUNT, Integer.parseInt(args[1])) + " hands with "
+                + mismatches + " mismatches in " + (System.nanoTime() - started) / 1_000_000 + " ms"
+        );
+
+        if (mismatches != 0) {
+            System.exit(2);
+        }
+    }
+
+    private static void simulate(final String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: simulate <players> <tables> [--seed <seed>] [--threads <threads>]");
+            System.exit(1);
+        }
+
+        var seed = 0L;
+        var threads = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 3; i < args.length; i++) {
+            if ("--seed".equals(args[i]) && i + 1 < args.length) {
+                seed = Long.parseLong(args[++i]);
+            } else if ("--threads".equals(args[i]) && i + 1 < args.length) {
+                threads = Integer.parseInt(args[++i]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        try (final var simulator = new ShowdownSimulator(threads)) {
+            final var result = simulator.simulate(Integer.parseInt(args[1]), Long.parseLong(args[2]), seed);
+
+            System.out.println(result);
+
+            for (int startingHand = 0; startingHand < StartingHands.CLASSES_COUNT; startingHand++) {
+                System.out.printf(
+                    "%-4s equity=%.4f win=%.4f dealt=%d%n",
+                    StartingHands.nameOf(startingHand),
+                    result.getEquity(startingHand),
+                    result.getWinRate(startingHand),
+                    result.getDealt(startingHand)
+                );
+            }
+        }
     }
 }
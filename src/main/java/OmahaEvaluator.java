@@ -0,0 +1,135 @@
+/**
+ * Evaluates Omaha hands, where the best hand uses exactly two hole cards and three board cards.
+ *
+ * <p>The board triples, their combined ratings and their suit when all three share one are built
+ * once per board. For every combination, 60 for four hole cards and a full board, those are joined
+ * with the hole pair. Five distinct ratings that make neither a straight nor a flush, the most
+ * common case, are scored directly from the joined ratings. Otherwise the category is bounded
+ * (fewer distinct ratings leave only paired categories), and only combinations whose category can
+ * reach the best strength so far go through {@link RuleSet#evaluate(long)}. {@link RuleSet} keeps
+ * no per-variant tables, so nothing beyond these aggregates is precomputed.
+ */
+public final class OmahaEvaluator {
+    private static final int BOARD_CARDS = 3;
+    private static final int MAX_HOLE_CARDS = 6;
+    private static final int NO_SUIT = -1;
+
+    private final RuleSet ruleSet;
+    private final long board;
+    private final long[] boardTriples;
+    private final int[] tripleRatings;
+    private final int[] tripleSuits;
+    // Highest category rank of five cards with 2 to 4 distinct ratings
+    private final int[] pairedRankBounds = new int[HandParser.HAND_SIZE];
+    // Category rank of five distinct ratings, indexed by flush * 2 + straight
+    private final int[] unpairedRanks = new int[4];
+    private final int[] holeIndexes = new int[MAX_HOLE_CARDS];
+
+    public OmahaEvaluator(final RuleSet ruleSet, final long board) {
+        final var size = CardMask.size(board);
+
+        if (size < BOARD_CARDS || size > 5) {
+            throw new IllegalArgumentException("Board must have from 3 to 5 cards");
+        }
+
+        this.ruleSet = ruleSet;
+        this.board = board;
+        this.boardTriples = triples(board);
+        this.tripleRatings = new int[boardTriples.length];
+        this.tripleSuits = new int[boardTriples.length];
+
+        for (int triple = 0; triple < boardTriples.length; triple++) {
+            tripleRatings[triple] = CardMask.ratings(boardTriples[triple]);
+            tripleSuits[triple] = suitOf(boardTriples[triple]);
+        }
+
+        pairedRankBounds[2] = Math.max(ruleSet.getRank(HandType.FULL_HOUSE), ruleSet.getRank(HandType.FOUR_OF_A_KIND));
+        pairedRankBounds[3] = Math.max(ruleSet.getRank(HandType.TWO_PAIRS), ruleSet.getRank(HandType.THREE_OF_A_KIND));
+        pairedRankBounds[4] = ruleSet.getRank(HandType.PAIR);
+        unpairedRanks[0] = ruleSet.getRank(HandType.HIGH_CARD);
+        unpairedRanks[1] = ruleSet.getRank(HandType.STRAIGHT);
+        unpairedRanks[2] = ruleSet.getRank(HandType.FLUSH);
+        unpairedRanks[3] = Math.max(ruleSet.getRank(HandType.STRAIGHT_FLUSH), ruleSet.getRank(HandType.ROYAL_FLASH));
+    }
+
+    /**
+     * Returns the strength of the best hand using two of the hole cards, of which there may be
+     * four to six. Not thread safe: each thread needs its own evaluator.
+     */
+    public int evaluate(final long holeCards) {
+        final var size = CardMask.size(holeCards);
+
+        if (size < 4 || size > MAX_HOLE_CARDS || (holeCards & board) != 0) {
+            throw new IllegalArgumentException("Hole cards must be 4 to 6 cards not on the board");
+        }
+
+        CardMask.toIndexes(holeCards, holeIndexes, 0);
+
+        var best = 0;
+
+        for (int first = 0; first < size; first++) {
+            for (int second = first + 1; second < size; second++) {
+                final var pair = CardCode.bit(holeIndexes[first]) | CardCode.bit(holeIndexes[second]);
+                final var pairRatings = CardMask.ratings(pair);
+                final var pairSuit = suitOf(pair);
+
+                for (int triple = 0; triple < boardTriples.length; triple++) {
+                    final var ratings = pairRatings | tripleRatings[triple];
+                    final var distinct = Integer.bitCount(ratings);
+                    final int rankBound;
+
+                    if (distinct < HandParser.HAND_SIZE) {
+                        rankBound = pairedRankBounds[distinct];
+                    } else {
+                        final var flush = pairSuit != NO_SUIT && pairSuit == tripleSuits[triple];
+                        final var straight = ruleSet.isStraight(ratings);
+
+                        if (!flush && !straight) {
+                            best = Math.max(best, ruleSet.highCard(ratings));
+                            continue;
+                        }
+
+                        rankBound = unpairedRanks[(flush ? 2 : 0) + (straight ? 1 : 0)];
+                    }
+
+                    if (rankBound >= best >>> HandEvaluator.HAND_TYPE_SHIFT) {
+                        best = Math.max(best, ruleSet.evaluate(pair | boardTriples[triple]));
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
+    public RuleSet getRuleSet() {
+        return ruleSet;
+    }
+
+    /**
+     * Returns the suit of the cards when they all share one, {@link #NO_SUIT} otherwise.
+     */
+    private static int suitOf(final long cards) {
+        final var suit = Long.numberOfTrailingZeros(cards) / CardCode.SUIT_LANE_BITS;
+
+        return cards == (long) CardMask.suitRatings(cards, suit) << (suit * CardCode.SUIT_LANE_BITS) ? suit : NO_SUIT;
+    }
+
+    private static long[] triples(final long cards) {
+        final var indexes = new int[CardMask.size(cards)];
+        CardMask.toIndexes(cards, indexes, 0);
+
+        final var triples = new long[indexes.length * (indexes.length - 1) * (indexes.length - 2) / 6];
+        var count = 0;
+
+        for (int first = 0; first < indexes.length; first++) {
+            for (int second = first + 1; second < indexes.length; second++) {
+                for (int third = second + 1; third < indexes.length; third++) {
+                    triples[count++] = CardMask.ofIndexes(indexes[first], indexes[second], indexes[third]);
+                }
+            }
+        }
+
+        return triples;
+    }
+}
@@ -0,0 +1,77 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and busy time of every {@link HandPipeline} stage. Evaluation time is summed over
+ * all workers, so its throughput is per worker.
+ */
+public class PipelineStats {
+    final LongAdder bytesRead = new LongAdder();
+    final LongAdder linesRead = new LongAdder();
+    final LongAdder handsEvaluated = new LongAdder();
+    final LongAdder parseErrors = new LongAdder();
+    final LongAdder batchesEmitted = new LongAdder();
+    final LongAdder readNanos = new LongAdder();
+    final LongAdder evaluateNanos = new LongAdder();
+    final LongAdder sinkNanos = new LongAdder();
+    final LongAdder backpressureNanos = new LongAdder();
+
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    public long getLinesRead() {
+        return linesRead.sum();
+    }
+
+    public long getHandsEvaluated() {
+        return handsEvaluated.sum();
+    }
+
+    public long getParseErrors() {
+        return parseErrors.sum();
+    }
+
+    public long getBatchesEmitted() {
+        return batchesEmitted.sum();
+    }
+
+    /**
+     * Time the reader spent blocked because every pending batch slot was taken.
+     */
+    public long getBackpressureNanos() {
+        return backpressureNanos.sum();
+    }
+
+    public double getReadLinesPerSecond() {
+        return perSecond(getLinesRead(), readNanos.sum());
+    }
+
+    public double getEvaluatedHandsPerSecond() {
+        return perSecond(getHandsEvaluated(), evaluateNanos.sum());
+    }
+
+    public double getSinkHandsPerSecond() {
+        return perSecond(getHandsEvaluated(), sinkNanos.sum());
+    }
+
+    private static double perSecond(final long count, final long nanos) {
+        return nanos == 0 ? 0 : count * 1e9 / nanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "PipelineStats{bytes=%d, lines=%d, hands=%d, parseErrors=%d, batches=%d, "
+                + "read=%.0f lines/s, evaluate=%.0f hands/s per worker, sink=%.0f hands/s, backpressure=%d ms}",
+            getBytesRead(),
+            getLinesRead(),
+            getHandsEvaluated(),
+            getParseErrors(),
+            getBatchesEmitted(),
+            getReadLinesPerSecond(),
+            getEvaluatedHandsPerSecond(),
+            getSinkHandsPerSecond(),
+            getBackpressureNanos() / 1_000_000
+        );
+    }
+}
@@ -5,30 +5,103 @@ import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-public class PokerHand implements Comparable<PokerHand> {
+/**
+ * Immutable five card hand with value semantics.
+ *
+ * <p>Two hands are equal when they hold the same cards in any order, repeated cards included, so
+ * equality and the hash rely on the sorted {@link CardCode} indexes packed in one int. The natural
+ * ordering compares strengths only and is inconsistent with equals: equal hands always compare as
+ * 0, but so do different cards of the same strength, such as the same ranks in other suits.
+ * {@link #TOTAL_ORDER} breaks those ties by the cards and is consistent with equals.
+ */
+public final class PokerHand implements Comparable<PokerHand> {
+    public static final Comparator<PokerHand> TOTAL_ORDER = Comparator
+        .comparingInt(PokerHand::getStrength)
+        .thenComparingInt(hand -> hand.key);
+
+    private static final int CARD_BITS = 6;
 
     private final List<Card> cards;
     private final HandType handType;
+    private final int strength;
+    private final int key;
 
     public PokerHand(final String cardsInput) {
-        final var preparedCard = cardsInput.split(" ");
+        this(parseCards(cardsInput));
+    }
 
-        if (preparedCard.length != 5) {
+    public PokerHand(final List<Card> cards) {
+        if (cards.size() != 5) {
             throw new IllegalArgumentException("Hand must contains 5 cards");
         }
 
-        this.cards = Arrays
-            .stream(cardsInput
-            .split(" "))
-            .map(it ->
-                new Card(
-                    CardRating.getByValue(it.charAt(0)),
-                    CardSuit.getByValue(it.charAt(1))
-                ))
+        this.cards = cards
+            .stream()
             .sorted(Comparator.comparingInt(card -> card.getRating().getValue()))
+            .collect(Collectors.toUnmodifiableList());
+
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        for (int card = 0; card < indexes.length; card++) {
+            indexes[card] = CardCode.index(cards.get(card));
+        }
+
+        this.key = key(indexes, 0);
+
+        final var started = HandMetrics.start();
+        this.strength = HandEvaluator.evaluate(cards);
+        this.handType = HandType.fromStrength(strength);
+
+        if (HandMetrics.ENABLED) {
+            HandMetrics.recordEvaluation(handType, started);
+        }
+    }
+
+    private static List<Card> parseCards(final String cardsInput) {
+        final var started = HandMetrics.start();
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        try {
+            final var end = HandParser.LENIENT.parse(cardsInput, 0, indexes, 0);
+
+            if (end != cardsInput.length()) {
+                throw new HandParseException(end, "Hand must contains 5 cards");
+            }
+        } catch (final HandParseException e) {
+            if (HandMetrics.ENABLED) {
+                HandMetrics.recordParseError();
+            }
+            throw e;
+        }
+
+        if (HandMetrics.ENABLED) {
+            HandMetrics.recordParse(started);
+        }
+
+        return Arrays
+            .stream(indexes)
+            .mapToObj(CardCode::toCard)
             .collect(Collectors.toList());
+    }
+
+    /**
+     * Sorts the {@link CardCode} indexes of the five cards from {@code offset} in place and packs
+     * them six bits each: equal for equal hands whatever the card order.
+     */
+    static int key(final int[] cardIndexes, final int offset) {
+        Arrays.sort(cardIndexes, offset, offset + HandParser.HAND_SIZE);
+
+        var key = 0;
+
+        for (int card = offset; card < offset + HandParser.HAND_SIZE; card++) {
+            key = key << CARD_BITS | cardIndexes[card];
+        }
+
+        return key;
+    }
 
-        this.handType = HandType.getHandType(this);
+    int getKey() {
+        return key;
     }
 
     public List<Card> getCards() {
@@ -39,6 +112,10 @@ public class PokerHand implements Comparable<PokerHand> {
         return handType;
     }
 
+    public int getStrength() {
+        return strength;
+    }
+
     public Map<CardRating, List<CardRating>> getCardsRatingsCount() {
         final var cardsRatings = getCardsRatings();
 
@@ -65,6 +142,15 @@ public class PokerHand implements Comparable<PokerHand> {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        return this == other || other instanceof PokerHand && key == ((PokerHand) other).key;
+    }
+
+    @Override
+    public int hashCode() {
+        return key * 0x9E3779B1;
+    }
 
     @Override
     public String toString() {
@@ -79,15 +165,13 @@ public class PokerHand implements Comparable<PokerHand> {
 
     @Override
     public int compareTo(final PokerHand comparable) {
-        final var thisHandType = HandType.getHandType(this);
-        final var comparableHandType = HandType.getHandType(comparable);
-
-        if (thisHandType.getRating() > comparableHandType.getRating()) {
-            return 1;
-        } else if (thisHandType.getRating() < comparableHandType.getRating()) {
-            return -1;
+        if (HandMetrics.ENABLED) {
+            final var started = HandMetrics.start();
+            final var result = Integer.compare(strength, comparable.strength);
+            HandMetrics.recordComparison(started);
+            return result;
         }
 
-        else return HandType.compareSameHands(this, comparable);
+        return Integer.compare(strength, comparable.strength);
     }
 }
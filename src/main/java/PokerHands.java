@@ -0,0 +1,140 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Batch operations that evaluate hands on the fork-join pool and sort them by packed strength.
+ * Sorting is stable: hands of equal strength keep their input order whatever the parallelism.
+ */
+public final class PokerHands {
+    private static final int SPLIT_THRESHOLD = 1 << 12;
+
+    private PokerHands() {
+    }
+
+    public static List<PokerHand> sort(final List<String> cardsInputs) {
+        final var hands = new PokerHand[cardsInputs.size()];
+
+        forEachRange(hands.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                hands[i] = new PokerHand(cardsInputs.get(i));
+            }
+        });
+
+        final var strengths = new int[hands.length];
+
+        for (int i = 0; i < hands.length; i++) {
+            strengths[i] = hands[i].getStrength();
+        }
+
+        final var order = sortedOrder(strengths);
+        final var sorted = new ArrayList<PokerHand>(hands.length);
+
+        for (final int index : order) {
+            sorted.add(hands[index]);
+        }
+
+        return sorted;
+    }
+
+    /**
+     * Evaluates hands stored as consecutive groups of five {@link CardCode} indexes.
+     */
+    public static int[] strengths(final int[] cardIndexes) {
+        if (cardIndexes.length % HandParser.HAND_SIZE != 0) {
+            throw new IllegalArgumentException("Hand must contains 5 cards");
+        }
+
+        final var strengths = new int[cardIndexes.length / HandParser.HAND_SIZE];
+
+        forEachRange(strengths.length, (from, to) -> {
+            for (int hand = from; hand < to; hand++) {
+                final var card = hand * HandParser.HAND_SIZE;
+
+                strengths[hand] = HandEvaluator.evaluateIndexes(
+                    cardIndexes[card],
+                    cardIndexes[card + 1],
+                    cardIndexes[card + 2],
+                    cardIndexes[card + 3],
+                    cardIndexes[card + 4]
+                );
+            }
+        });
+
+        return strengths;
+    }
+
+    /**
+     * Returns hand positions ordered from the weakest to the strongest hand.
+     */
+    public static int[] sortedOrder(final int[] strengths) {
+        final var keys = new long[strengths.length];
+
+        forEachRange(keys.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                keys[i] = ((long) strengths[i] << 32) | i;
+            }
+        });
+
+        Arrays.parallelSort(keys);
+
+        final var order = new int[keys.length];
+
+        forEachRange(order.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                order[i] = (int) keys[i];
+            }
+        });
+
+        return order;
+    }
+
+    static void forEachRange(final int size, final RangeAction action) {
+        forEachRange(size, SPLIT_THRESHOLD, action);
+    }
+
+    static void forEachRange(final int size, final int threshold, final RangeAction action) {
+        if (size == 0) {
+            return;
+        }
+
+        ForkJoinPool.commonPool().invoke(new RangeTask(action, threshold, 0, size));
+    }
+
+    @FunctionalInterface
+    interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+        private final int threshold;
+        private final int from;
+        private final int to;
+
+        private RangeTask(final RangeAction action, final int threshold, final int from, final int to) {
+            this.action = action;
+            this.threshold = threshold;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                action.run(from, to);
+                return;
+            }
+
+            final var middle = (from + to) >>> 1;
+            invokeAll(
+                new RangeTask(action, threshold, from, middle),
+                new RangeTask(action, threshold, middle, to)
+            );
+        }
+    }
+}
@@ -0,0 +1,321 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dense ranks of every combination of {@code cards} distinct cards out of the deck, persisted to a
+ * memory-mapped file.
+ *
+ * <p>Combinations are numbered by the combinatorial number system: cards {@code c0 < c1 < ...} as
+ * {@link CardCode} indexes get {@code C(c0, 1) + C(c1, 2) + ...}, so the 2,598,960 five card hands
+ * and the 133,784,560 seven card hands each fill a dense range. A rank is the position of the
+ * hand's strength among the 7,462 distinct five card strengths, weakest first, stored in two bytes.
+ * The file starts with a {@value #HEADER_BYTES} byte header and the strength of every rank, so it
+ * maps back to {@link PokerHand#getStrength()} order.
+ */
+public final class RankTable {
+    public static final int MIN_CARDS = 5;
+    public static final int MAX_CARDS = 7;
+
+    private static final int MAGIC = 0x50485254;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int TASKS = 1024;
+    private static final long[][] BINOMIALS = new long[CardCode.CARDS_COUNT + 1][MAX_CARDS + 1];
+
+    static {
+        for (int n = 0; n <= CardCode.CARDS_COUNT; n++) {
+            BINOMIALS[n][0] = 1;
+
+            for (int k = 1; k <= Math.min(n, MAX_CARDS); k++) {
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + (k <= n - 1 ? BINOMIALS[n - 1][k] : 0);
+            }
+        }
+    }
+
+    private final MappedByteBuffer buffer;
+    private final int cards;
+    private final long size;
+    private final int[] strengths;
+
+    private RankTable(final MappedByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("Not a rank table file");
+        }
+
+        this.buffer = buffer;
+        this.cards = buffer.getInt(2 * Integer.BYTES);
+        this.size = buffer.getLong(4 * Integer.BYTES);
+        this.strengths = new int[buffer.getInt(3 * Integer.BYTES)];
+
+        for (int rank = 0; rank < strengths.length; rank++) {
+            strengths[rank] = buffer.getInt(HEADER_BYTES + rank * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Ranks every hand of {@code cards} cards on the fork-join pool and writes the table to the file.
+     */
+    public static RankTable generate(final int cards, final Path path) throws IOException {
+        checkCards(cards);
+
+        final var strengths = distinctStrengths();
+        final var ranks = new short[(HandType.ROYAL_FLASH.getRating() + 1) << HandEvaluator.HAND_TYPE_SHIFT];
+
+        for (int rank = 0; rank < strengths.length; rank++) {
+            ranks[strengths[rank]] = (short) rank;
+        }
+
+        final var size = binomial(CardCode.CARDS_COUNT, cards);
+        final var ranksOffset = HEADER_BYTES + strengths.length * Integer.BYTES;
+
+        try (final var channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        )) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, ranksOffset + size * Short.BYTES);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            forEachHand(cards, (index, mask, indexes) ->
+                buffer.putShort((int) (ranksOffset + index * Short.BYTES), ranks[SevenCardEvaluator.evaluate(mask)])
+            );
+
+            for (int rank = 0; rank < strengths.length; rank++) {
+                buffer.putInt(HEADER_BYTES + rank * Integer.BYTES, strengths[rank]);
+            }
+
+            buffer.putInt(0, MAGIC)
+                .putInt(Integer.BYTES, VERSION)
+                .putInt(2 * Integer.BYTES, cards)
+                .putInt(3 * Integer.BYTES, strengths.length)
+                .putLong(4 * Integer.BYTES, size);
+            buffer.force();
+
+            return new RankTable(buffer);
+        }
+    }
+
+    /**
+     * Maps a table written by {@link #generate(int, Path)}; nothing is recomputed.
+     */
+    public static RankTable load(final Path path) throws IOException {
+        try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            return new RankTable(buffer);
+        }
+    }
+
+    /**
+     * Compares the mask evaluator, and the table unless it is null, with the reference evaluation
+     * on every hand of {@code cards} cards: {@link PokerHand} for five cards and the best of every
+     * five card subset with {@link HandEvaluator} for more. Returns the number of mismatching hands.
+     */
+    public static long verify(final int cards, final RankTable table) {
+        checkCards(cards);
+
+        if (table != null && table.cards != cards) {
+            throw new IllegalArgumentException("Table ranks " + table.cards + " card hands");
+        }
+
+        final var mismatches = new LongAdder();
+
+        forEachHand(cards, (index, mask, indexes) -> {
+            final var expected = cards == MIN_CARDS ? referenceStrength(indexes) : bestSubsetStrength(indexes, cards);
+            final var fast = SevenCardEvaluator.evaluate(mask);
+
+            if (fast != expected || (table != null && table.getStrength(table.getRank(index)) != expected)) {
+                mismatches.increment();
+            }
+        });
+
+        return mismatches.sum();
+    }
+
+    public int getCards() {
+        return cards;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public int getRanksCount() {
+        return strengths.length;
+    }
+
+    public int getRank(final long index) {
+        return Short.toUnsignedInt(buffer.getShort((int) (HEADER_BYTES + strengths.length * Integer.BYTES + index * Short.BYTES)));
+    }
+
+    public int getRank(final long mask, final int[] scratch) {
+        return getRank(indexOf(mask, scratch));
+    }
+
+    public int getStrength(final int rank) {
+        return strengths[rank];
+    }
+
+    /**
+     * Returns the combinatorial number of the cards of the mask; {@code scratch} holds at least as
+     * many ints as there are cards.
+     */
+    public static long indexOf(final long mask, final int[] scratch) {
+        final var count = CardMask.toIndexes(mask, scratch, 0);
+
+        Arrays.sort(scratch, 0, count);
+
+        var index = 0L;
+
+        for (int i = 0; i < count; i++) {
+            index += BINOMIALS[scratch[i]][i + 1];
+        }
+
+        return index;
+    }
+
+    /**
+     * Writes the ascending {@link CardCode} indexes of the combination numbered {@code index}.
+     */
+    public static void unrank(final long index, final int cards, final int[] destination) {
+        var remaining = index;
+        var card = CardCode.CARDS_COUNT - 1;
+
+        for (int i = cards - 1; i >= 0; i--) {
+            while (BINOMIALS[card][i + 1] > remaining) {
+                card--;
+            }
+
+            destination[i] = card;
+            remaining -= BINOMIALS[card][i + 1];
+            card--;
+        }
+    }
+
+    public static long binomial(final int n, final int k) {
+        return BINOMIALS[n][k];
+    }
+
+    private static int referenceStrength(final int[] indexes) {
+        final var cards = new ArrayList<Card>(MIN_CARDS);
+
+        for (int i = 0; i < MIN_CARDS; i++) {
+            cards.add(CardCode.toCard(indexes[i]));
+        }
+
+        return new PokerHand(cards).getStrength();
+    }
+
+    private static int bestSubsetStrength(final int[] indexes, final int cards) {
+        final var subset = new int[MIN_CARDS];
+        var best = 0;
+
+        for (int skipped = 0; skipped < 1 << cards; skipped++) {
+            if (Integer.bitCount(skipped) != cards - MIN_CARDS) {
+                continue;
+            }
+
+            var size = 0;
+
+            for (int i = 0; i < cards; i++) {
+                if ((skipped & 1 << i) == 0) {
+                    subset[size++] = indexes[i];
+                }
+            }
+
+            best = Math.max(best, HandEvaluator.evaluateIndexes(subset[0], subset[1], subset[2], subset[3], subset[4]));
+        }
+
+        return best;
+    }
+
+    private static int[] distinctStrengths() {
+        final var seen = new boolean[(HandType.ROYAL_FLASH.getRating() + 1) << HandEvaluator.HAND_TYPE_SHIFT];
+
+        forEachHand(MIN_CARDS, (index, mask, indexes) -> seen[SevenCardEvaluator.evaluate(mask)] = true);
+
+        var count = 0;
+
+        for (final boolean present : seen) {
+            count += present ? 1 : 0;
+        }
+
+        final var strengths = new int[count];
+        var rank = 0;
+
+        for (int strength = 0; strength < seen.length; strength++) {
+            if (seen[strength]) {
+                strengths[rank++] = strength;
+            }
+        }
+
+        return strengths;
+    }
+
+    /**
+     * Visits every combination in parallel, each task unranking its first combination and stepping
+     * to the next one in combinatorial number order.
+     */
+    private static void forEachHand(final int cards, final HandAction action) {
+        final var size = binomial(CardCode.CARDS_COUNT, cards);
+        final var perTask = (size + TASKS - 1) / TASKS;
+
+        PokerHands.forEachRange(TASKS, 1, (fromTask, toTask) -> {
+            final var indexes = new int[cards];
+
+            for (int task = fromTask; task < toTask; task++) {
+                final var from = task * perTask;
+                final var to = Math.min(size, from + perTask);
+
+                if (from >= to) {
+                    continue;
+                }
+
+                unrank(from, cards, indexes);
+
+                for (long index = from; index < to; index++) {
+                    var mask = CardMask.EMPTY;
+
+                    for (int i = 0; i < cards; i++) {
+                        mask |= CardCode.bit(indexes[i]);
+                    }
+
+                    action.accept(index, mask, indexes);
+                    next(indexes, cards);
+                }
+            }
+        });
+    }
+
+    private static void next(final int[] indexes, final int cards) {
+        var i = 0;
+
+        while (i < cards - 1 && indexes[i] + 1 == indexes[i + 1]) {
+            indexes[i] = i;
+            i++;
+        }
+
+        indexes[i]++;
+    }
+
+    private static void checkCards(final int cards) {
+        if (cards < MIN_CARDS || cards > MAX_CARDS) {
+            throw new IllegalArgumentException("Hands must have from 5 to 7 cards");
+        }
+    }
+
+    @FunctionalInterface
+    private interface HandAction {
+        void accept(long index, long mask, int[] indexes);
+    }
+}
@@ -0,0 +1,126 @@
+/**
+ * Hand ranking rules of a poker variant, applied to any number of distinct cards in a {@link CardMask}.
+ *
+ * <p>Strengths keep the layout of {@link HandEvaluator}: the category rank of the rule set in bits
+ * 20-23 followed by the packed ratings. A wheel straight counts its ace as 1, so A-2-3-4-5 packs as
+ * 5-4-3-2-1 and loses to 2-3-4-5-6. Strengths of different rule sets must not be compared.
+ */
+public enum RuleSet {
+    /**
+     * The rules of {@link PokerHand}: no wheel, strengths equal to {@link HandEvaluator}.
+     */
+    CLASSIC(SevenCardEvaluator.NO_WHEEL, false, CardMask.DECK),
+
+    /**
+     * Standard high hand rules, with A-2-3-4-5 as the lowest straight.
+     */
+    HOLDEM(ratings(CardRating.ACE, CardRating.TWO, CardRating.THREE, CardRating.FOUR, CardRating.FIVE), false, CardMask.DECK),
+
+    /**
+     * 36 card deck without twos to fives: A-6-7-8-9 is the lowest straight and a flush beats a full house.
+     */
+    SHORT_DECK(
+        ratings(CardRating.ACE, CardRating.SIX, CardRating.SEVEN, CardRating.EIGHT, CardRating.NINE),
+        true,
+        shortDeck()
+    );
+
+    private static final int KICKERS_MASK = (1 << HandEvaluator.HAND_TYPE_SHIFT) - 1;
+
+    private final int wheel;
+    private final boolean flushBeatsFullHouse;
+    private final long deck;
+    private final int[] ranks = new int[HandType.ROYAL_FLASH.getRating() + 1];
+    private final HandType[] byRank = new HandType[HandType.ROYAL_FLASH.getRating() + 1];
+
+    RuleSet(final int wheel, final boolean flushBeatsFullHouse, final long deck) {
+        this.wheel = wheel;
+        this.flushBeatsFullHouse = flushBeatsFullHouse;
+        this.deck = deck;
+
+        for (final HandType handType : HandType.values()) {
+            var rank = handType.getRating();
+
+            if (flushBeatsFullHouse && handType == HandType.FLUSH) {
+                rank = HandType.FULL_HOUSE.getRating();
+            } else if (flushBeatsFullHouse && handType == HandType.FULL_HOUSE) {
+                rank = HandType.FLUSH.getRating();
+            }
+
+            ranks[handType.getRating()] = rank;
+            byRank[rank] = handType;
+        }
+    }
+
+    /**
+     * Evaluates the best five card hand out of the distinct cards of the mask.
+     */
+    public int evaluate(final long mask) {
+        final var classic = SevenCardEvaluator.evaluate(mask, wheel, flushBeatsFullHouse);
+
+        if (!flushBeatsFullHouse) {
+            return classic;
+        }
+
+        return ranks[classic >>> HandEvaluator.HAND_TYPE_SHIFT] << HandEvaluator.HAND_TYPE_SHIFT | classic & KICKERS_MASK;
+    }
+
+    public int evaluate(final int... cardIndexes) {
+        return evaluate(CardMask.ofIndexes(cardIndexes));
+    }
+
+    /**
+     * Tells whether the ratings mask holds a straight, the wheel of this rule set included.
+     */
+    boolean isStraight(final int ratings) {
+        return SevenCardEvaluator.straightKickers(ratings, wheel) != 0;
+    }
+
+    /**
+     * Returns the strength of five cards of distinct ratings making neither a straight nor a flush.
+     */
+    int highCard(final int ratings) {
+        return ranks[HandType.HIGH_CARD.getRating()] << HandEvaluator.HAND_TYPE_SHIFT
+            | SevenCardEvaluator.evaluateRatings(0, ratings, 0, 0, 0, wheel, flushBeatsFullHouse) & KICKERS_MASK;
+    }
+
+    public HandType getHandType(final int strength) {
+        return byRank[strength >>> HandEvaluator.HAND_TYPE_SHIFT];
+    }
+
+    /**
+     * Returns the position of the category in this rule set, from 1 for a high card.
+     */
+    public int getRank(final HandType handType) {
+        return ranks[handType.getRating()];
+    }
+
+    /**
+     * Returns the cards the variant is dealt from.
+     */
+    public long getDeck() {
+        return deck;
+    }
+
+    private static int ratings(final CardRating... cardRatings) {
+        var ratings = 0;
+
+        for (final CardRating rating : cardRatings) {
+            ratings |= 1 << rating.ordinal();
+        }
+
+        return ratings;
+    }
+
+    private static long shortDeck() {
+        var deck = CardMask.EMPTY;
+
+        for (int index = 0; index < CardCode.CARDS_COUNT; index++) {
+            if (CardCode.rating(index) >= CardRating.SIX.ordinal()) {
+                deck |= CardCode.bit(index);
+            }
+        }
+
+        return deck;
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Evaluates the best five card hand out of up to seven cards held in a {@link CardMask}.
+ *
+ * <p>Rating multiplicities are derived from the four suit lanes with bitwise operations, so no
+ * five card subset is ever enumerated. Results are the same packed strengths as
+ * {@link HandEvaluator}, so they compare directly with {@link PokerHand#getStrength()}.
+ */
+public final class SevenCardEvaluator {
+    private static final int RATINGS_COUNT = CardRating.values().length;
+    private static final int RATING_VALUE_OFFSET = CardRating.TWO.getValue();
+    private static final int[] TOP_RATINGS = new int[1 << RATINGS_COUNT];
+    private static final int ACE = 1 << CardRating.ACE.ordinal();
+    private static final int LOW_ACE_VALUE = 1;
+
+    static final int NO_WHEEL = 0;
+
+    static {
+        for (int ratings = 0; ratings < TOP_RATINGS.length; ratings++) {
+            var remaining = ratings;
+            var packed = 0;
+
+            for (int i = 0; i < 5; i++) {
+                packed <<= HandEvaluator.RATING_BITS;
+
+                if (remaining != 0) {
+                    final var top = Integer.highestOneBit(remaining);
+                    packed |= valueOf(top);
+                    remaining &= ~top;
+                }
+            }
+
+            TOP_RATINGS[ratings] = packed;
+        }
+    }
+
+    private SevenCardEvaluator() {
+    }
+
+    public static int evaluate(final int... cardIndexes) {
+        return evaluate(CardMask.ofIndexes(cardIndexes));
+    }
+
+    public static HandType getHandType(final long mask) {
+        return HandType.fromStrength(evaluate(mask));
+    }
+
+    public static int evaluate(final long mask) {
+        return evaluate(mask, NO_WHEEL, false);
+    }
+
+    /**
+     * Evaluates the mask with the low straight {@code wheel}, a ratings mask whose ace plays below
+     * the other four, or {@link #NO_WHEEL}. Strengths keep the classic {@link HandType} ratings
+     * whatever {@code flushBeatsFullHouse}, which only decides the best hand out of the cards.
+     */
+    static int evaluate(final long mask, final int wheel, final boolean flushBeatsFullHouse) {
+        final var spades = CardMask.suitRatings(mask, 0);
+        final var hearts = CardMask.suitRatings(mask, 1);
+        final var diamonds = CardMask.suitRatings(mask, 2);
+        final var clubs = CardMask.suitRatings(mask, 3);
+        final var ratings = spades | hearts | diamonds | clubs;
+        final var threeOrMore = (spades & hearts & diamonds)
+            | (spades & hearts & clubs)
+            | (spades & diamonds & clubs)
+            | (hearts & diamonds & clubs);
+        final var twoOrMore = (spades & hearts)
+            | (spades & diamonds)
+            | (spades & clubs)
+            | (hearts & diamonds)
+            | (hearts & clubs)
+            | (diamonds & clubs);
+
+        return evaluateRatings(
+            flushRatings(spades, hearts, diamonds, clubs),
+            ratings,
+            twoOrMore,
+            threeOrMore,
+            spades & hearts & diamonds & clubs,
+            wheel,
+            flushBeatsFullHouse
+        );
+    }
+
+    /**
+     * Evaluates distinct cards described by the ratings of the flush suit, if any, and the ratings
+     * held at least once, twice, three and four times.
+     */
+    static int evaluateRatings(
+        final int flush,
+        final int ratings,
+        final int twoOrMore,
+        final int threeOrMore,
+        final int quads,
+        final int wheel,
+        final boolean flushBeatsFullHouse
+    ) {
+        if (flush != 0) {
+            final var straightFlush = straightKickers(flush, wheel);
+
+            if (straightFlush != 0) {
+                final var handType = straightFlush >>> 16 == CardRating.ACE.getValue()
+                    ? HandType.ROYAL_FLASH
+                    : HandType.STRAIGHT_FLUSH;
+
+                return type(handType) | straightFlush;
+            }
+        }
+
+        if (quads != 0) {
+            final var quad = Integer.highestOneBit(quads);
+
+            return type(HandType.FOUR_OF_A_KIND)
+                | valueOf(quad) << 16
+                | (TOP_RATINGS[ratings & ~quad] >>> 16) << 12;
+        }
+
+        if (flush != 0 && flushBeatsFullHouse) {
+            return type(HandType.FLUSH) | TOP_RATINGS[flush];
+        }
+
+        final var trips = Integer.highestOneBit(threeOrMore);
+
+        if (trips != 0 && (twoOrMore & ~trips) != 0) {
+            return type(HandType.FULL_HOUSE)
+                | valueOf(trips) << 16
+                | valueOf(Integer.highestOneBit(twoOrMore & ~trips)) << 12;
+        }
+
+        if (flush != 0) {
+            return type(HandType.FLUSH) | TOP_RATINGS[flush];
+        }
+
+        final var straight = straightKickers(ratings, wheel);
+
+        if (straight != 0) {
+            return type(HandType.STRAIGHT) | straight;
+        }
+
+        if (trips != 0) {
+            return type(HandType.THREE_OF_A_KIND)
+                | valueOf(trips) << 16
+                | (TOP_RATINGS[ratings & ~trips] >>> 12) << 8;
+        }
+
+        if (twoOrMore != 0) {
+            final var highPair = Integer.highestOneBit(twoOrMore);
+            final var lowPair = Integer.highestOneBit(twoOrMore & ~highPair);
+
+            if (lowPair != 0) {
+                return type(HandType.TWO_PAIRS)
+                    | valueOf(highPair) << 16
+                    | valueOf(lowPair) << 12
+                    | (TOP_RATINGS[ratings & ~highPair & ~lowPair] >>> 16) << 8;
+            }
+
+            return type(HandType.PAIR)
+                | valueOf(highPair) << 16
+                | (TOP_RATINGS[ratings & ~highPair] >>> 8) << 4;
+        }
+
+        return type(HandType.HIGH_CARD) | TOP_RATINGS[ratings];
+    }
+
+    private static int flushRatings(final int spades, final int hearts, final int diamonds, final int clubs) {
+        if (Integer.bitCount(spades) >= 5) return spades;
+        if (Integer.bitCount(hearts) >= 5) return hearts;
+        if (Integer.bitCount(diamonds) >= 5) return diamonds;
+        if (Integer.bitCount(clubs) >= 5) return clubs;
+
+        return 0;
+    }
+
+    /**
+     * Packs the highest straight out of the ratings, a wheel counting its ace as the lowest card.
+     */
+    static int straightKickers(final int ratings, final int wheel) {
+        final var runs = ratings & (ratings >>> 1) & (ratings >>> 2) & (ratings >>> 3) & (ratings >>> 4);
+
+        if (runs != 0) {
+            return TOP_RATINGS[Integer.highestOneBit(runs) * 0x1F];
+        }
+
+        if (wheel != NO_WHEEL && (ratings & wheel) == wheel) {
+            return TOP_RATINGS[wheel & ~ACE] | LOW_ACE_VALUE;
+        }
+
+        return 0;
+    }
+
+    private static int type(final HandType handType) {
+        return handType.getRating() << HandEvaluator.HAND_TYPE_SHIFT;
+    }
+
+    private static int valueOf(final int ratingBit) {
+        return Integer.numberOfTrailingZeros(ratingBit) + RATING_VALUE_OFFSET;
+    }
+}
@@ -0,0 +1,190 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Deals random Texas Hold'em tables to showdown and aggregates the results by starting hand.
+ *
+ * <p>Tables are dealt in chunks of {@value #CHUNK_TABLES}. Every worker takes the next chunk
+ * together with a generator split off the seed in chunk order and adds it to its own
+ * {@link ShowdownTally}; the tallies hold integer counts, so a seed gives the same totals for any
+ * number of threads, and memory does not grow with the number of tables. Each chunk reuses one
+ * primitive deck, shuffling only the cards a table needs.
+ */
+public final class ShowdownSimulator implements AutoCloseable {
+    public static final int MAX_PLAYERS = 10;
+
+    private static final int CHUNK_TABLES = 1 << 14;
+    private static final int BOARD_SIZE = 5;
+
+    private final ExecutorService executor;
+    private final int threads;
+
+    public ShowdownSimulator(final int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Threads count must be positive");
+        }
+
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final var thread = new Thread(runnable, "showdown-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.threads = threads;
+    }
+
+    public SimulationResult simulate(final int players, final long tables, final long seed) {
+        if (players < 2 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Players count must be from 2 to " + MAX_PLAYERS);
+        }
+
+        final var started = System.nanoTime();
+        final var chunks = new Chunks(tables, seed);
+        final var tasks = new ArrayList<Callable<ShowdownTally>>();
+
+        for (int worker = 0; worker < threads; worker++) {
+            tasks.add(() -> {
+                final var tally = new ShowdownTally();
+
+                for (var chunk = chunks.next(); chunk != null; chunk = chunks.next()) {
+                    deal(tally, players, chunk.tables, chunk.random);
+                }
+
+                return tally;
+            });
+        }
+
+        return new SimulationResult(players, run(tasks), System.nanoTime() - started);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private static void deal(
+        final ShowdownTally tally,
+        final int players,
+        final int tables,
+        final SplittableRandom random
+    ) {
+        final var deck = new int[CardCode.CARDS_COUNT];
+        final var cardsPerTable = 2 * players + BOARD_SIZE;
+        final var holeCards = new long[players];
+        final var startingHands = new int[players];
+        final var strengths = new int[players];
+
+        for (int index = 0; index < deck.length; index++) {
+            deck[index] = index;
+        }
+
+        for (int table = 0; table < tables; table++) {
+            for (int card = 0; card < cardsPerTable; card++) {
+                final var swap = card + random.nextInt(deck.length - card);
+                final var index = deck[swap];
+                deck[swap] = deck[card];
+                deck[card] = index;
+            }
+
+            var board = CardMask.EMPTY;
+
+            for (int card = 2 * players; card < cardsPerTable; card++) {
+                board |= CardCode.bit(deck[card]);
+            }
+
+            var best = 0;
+            var winnersCount = 0;
+
+            for (int player = 0; player < players; player++) {
+                final var first = deck[2 * player];
+                final var second = deck[2 * player + 1];
+
+                holeCards[player] = CardCode.bit(first) | CardCode.bit(second);
+                startingHands[player] = StartingHands.classOf(first, second);
+                strengths[player] = SevenCardEvaluator.evaluate(holeCards[player] | board);
+
+                if (strengths[player] > best) {
+                    best = strengths[player];
+                    winnersCount = 1;
+                } else if (strengths[player] == best) {
+                    winnersCount++;
+                }
+            }
+
+            final var share = ShowdownTally.POT_UNITS / winnersCount;
+
+            for (int player = 0; player < players; player++) {
+                final var startingHand = startingHands[player];
+
+                tally.dealt[startingHand]++;
+
+                if (strengths[player] == best) {
+                    if (winnersCount == 1) {
+                        tally.wins[startingHand]++;
+                    } else {
+                        tally.ties[startingHand]++;
+                    }
+                    tally.potUnits[startingHand] += share;
+                }
+            }
+
+            tally.tables++;
+        }
+    }
+
+    private ShowdownTally run(final List<Callable<ShowdownTally>> tasks) {
+        final var total = new ShowdownTally();
+
+        try {
+            for (final Future<ShowdownTally> future : executor.invokeAll(tasks)) {
+                total.merge(future.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+
+        return total;
+    }
+
+    /**
+     * Hands out chunks in order, each with the next generator split off the seed.
+     */
+    private static final class Chunks {
+        private final SplittableRandom random;
+        private long remaining;
+
+        private Chunks(final long tables, final long seed) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = tables;
+        }
+
+        private synchronized Chunk next() {
+            if (remaining <= 0) {
+                return null;
+            }
+
+            final var tables = (int) Math.min(CHUNK_TABLES, remaining);
+            remaining -= tables;
+
+            return new Chunk(tables, random.split());
+        }
+    }
+
+    private static final class Chunk {
+        private final int tables;
+        private final SplittableRandom random;
+
+        private Chunk(final int tables, final SplittableRandom random) {
+            this.tables = tables;
+            this.random = random;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Showdown counts per starting hand class accumulated by a single simulation task.
+ *
+ * <p>Pot shares are counted in {@value #POT_UNITS}ths of a pot, divisible by any number of
+ * winners up to ten, so merged totals are exact whatever the merge order.
+ */
+final class ShowdownTally {
+    static final int POT_UNITS = 2520;
+
+    long tables;
+    final long[] dealt = new long[StartingHands.CLASSES_COUNT];
+    final long[] wins = new long[StartingHands.CLASSES_COUNT];
+    final long[] ties = new long[StartingHands.CLASSES_COUNT];
+    final long[] potUnits = new long[StartingHands.CLASSES_COUNT];
+
+    void merge(final ShowdownTally other) {
+        tables += other.tables;
+
+        for (int startingHand = 0; startingHand < StartingHands.CLASSES_COUNT; startingHand++) {
+            dealt[startingHand] += other.dealt[startingHand];
+            wins[startingHand] += other.wins[startingHand];
+            ties[startingHand] += other.ties[startingHand];
+            potUnits[startingHand] += other.potUnits[startingHand];
+        }
+    }
+}
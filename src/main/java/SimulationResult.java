@@ -0,0 +1,67 @@
+/**
+ * Per starting hand results of a {@link ShowdownSimulator} run, indexed as in {@link StartingHands}.
+ */
+public final class SimulationResult {
+    private final int players;
+    private final long tables;
+    private final long elapsedNanos;
+    private final long[] dealt;
+    private final long[] wins;
+    private final long[] ties;
+    private final long[] potUnits;
+
+    SimulationResult(final int players, final ShowdownTally tally, final long elapsedNanos) {
+        this.players = players;
+        this.tables = tally.tables;
+        this.elapsedNanos = elapsedNanos;
+        this.dealt = tally.dealt.clone();
+        this.wins = tally.wins.clone();
+        this.ties = tally.ties.clone();
+        this.potUnits = tally.potUnits.clone();
+    }
+
+    public int getPlayersCount() {
+        return players;
+    }
+
+    public long getTables() {
+        return tables;
+    }
+
+    public double getTablesPerSecond() {
+        return elapsedNanos == 0 ? 0 : tables * 1e9 / elapsedNanos;
+    }
+
+    public long getDealt(final int startingHand) {
+        return dealt[startingHand];
+    }
+
+    public long getWins(final int startingHand) {
+        return wins[startingHand];
+    }
+
+    public long getTies(final int startingHand) {
+        return ties[startingHand];
+    }
+
+    public double getWinRate(final int startingHand) {
+        return dealt[startingHand] == 0 ? 0 : (double) wins[startingHand] / dealt[startingHand];
+    }
+
+    /**
+     * Share of the pot won on average when dealt the starting hand, split pots divided evenly.
+     */
+    public double getEquity(final int startingHand) {
+        return dealt[startingHand] == 0 ? 0 : potUnits[startingHand] / (double) ShowdownTally.POT_UNITS / dealt[startingHand];
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "SimulationResult{players=%d, tables=%d, tablesPerSecond=%.0f}",
+            players,
+            tables,
+            getTablesPerSecond()
+        );
+    }
+}
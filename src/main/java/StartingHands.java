@@ -0,0 +1,53 @@
+/**
+ * The 169 classes of Texas Hold'em hole cards: 13 pairs, 78 suited and 78 offsuit hands.
+ *
+ * <p>Classes are numbered on the usual 13 by 13 grid, highest ratings first: pairs on the
+ * diagonal, suited hands above it and offsuit hands below it, so {@code AA} is 0 and {@code 22}
+ * is 168.
+ */
+public final class StartingHands {
+    public static final int CLASSES_COUNT = 169;
+
+    private static final int RATINGS_COUNT = CardRating.values().length;
+    private static final CardRating[] RATINGS = CardRating.values();
+
+    private StartingHands() {
+    }
+
+    public static int classOf(final int firstIndex, final int secondIndex) {
+        final var high = Math.max(CardCode.rating(firstIndex), CardCode.rating(secondIndex));
+        final var low = Math.min(CardCode.rating(firstIndex), CardCode.rating(secondIndex));
+        final var row = RATINGS_COUNT - 1 - high;
+        final var column = RATINGS_COUNT - 1 - low;
+
+        return CardCode.suit(firstIndex) == CardCode.suit(secondIndex)
+            ? row * RATINGS_COUNT + column
+            : column * RATINGS_COUNT + row;
+    }
+
+    /**
+     * Returns the class name, such as {@code AA}, {@code AKs} or {@code 72o}.
+     */
+    public static String nameOf(final int startingHand) {
+        final var row = startingHand / RATINGS_COUNT;
+        final var column = startingHand % RATINGS_COUNT;
+        final var high = RATINGS[RATINGS_COUNT - 1 - Math.min(row, column)].getDesignation();
+        final var low = RATINGS[RATINGS_COUNT - 1 - Math.max(row, column)].getDesignation();
+
+        if (row == column) {
+            return "" + high + low;
+        }
+
+        return "" + high + low + (row < column ? 's' : 'o');
+    }
+
+    /**
+     * Returns the number of two card combinations in the class: 6, 4 or 12.
+     */
+    public static int combinationsOf(final int startingHand) {
+        final var row = startingHand / RATINGS_COUNT;
+        final var column = startingHand % RATINGS_COUNT;
+
+        return row == column ? 6 : row < column ? 4 : 12;
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Counts hands per {@link HandType}. Meant to be fed by a single {@link HandPipeline}.
+ */
+public class StrengthHistogram implements HandSink {
+    private final long[] counts = new long[HandType.values().length];
+
+    @Override
+    public void accept(final HandBatch batch) {
+        for (int hand = 0; hand < batch.size(); hand++) {
+            counts[batch.getHandType(hand).ordinal()]++;
+        }
+    }
+
+    public long getCount(final HandType handType) {
+        return counts[handType.ordinal()];
+    }
+
+    public long getTotal() {
+        var total = 0L;
+
+        for (final long count : counts) {
+            total += count;
+        }
+
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        final var text = new StringBuilder("StrengthHistogram{");
+
+        for (final HandType handType : HandType.values()) {
+            if (handType.ordinal() > 0) {
+                text.append(", ");
+            }
+
+            text.append(handType).append('=').append(counts[handType.ordinal()]);
+        }
+
+        return text.append('}').toString();
+    }
+}
@@ -0,0 +1,95 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Stable LSD radix sort over packed hand strengths.
+ *
+ * <p>Strengths fit in 24 bits, so two counting passes of 12 bits order any number of hands in
+ * linear time without a single {@link PokerHand#compareTo(PokerHand)} call.
+ */
+public final class StrengthSorter {
+    private static final int DIGIT_BITS = 12;
+    private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+    private static final int KEY_MASK = (1 << (2 * DIGIT_BITS)) - 1;
+
+    private StrengthSorter() {
+    }
+
+    public static List<PokerHand> sort(final List<PokerHand> hands, final boolean descending) {
+        final var strengths = new int[hands.size()];
+
+        for (int i = 0; i < strengths.length; i++) {
+            strengths[i] = hands.get(i).getStrength();
+        }
+
+        final var sorted = new ArrayList<PokerHand>(strengths.length);
+
+        for (final int index : sortedOrder(strengths, strengths.length, descending)) {
+            sorted.add(hands.get(index));
+        }
+
+        return sorted;
+    }
+
+    public static int[] sortedOrder(final int[] strengths, final boolean descending) {
+        return sortedOrder(strengths, strengths.length, descending);
+    }
+
+    /**
+     * Returns the positions {@code 0..size-1} ordered by the strength the function gives for each;
+     * every strength is read once into a column before sorting.
+     */
+    public static int[] sortedOrder(final IntUnaryOperator strengths, final int size, final boolean descending) {
+        final var column = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            column[i] = strengths.applyAsInt(i);
+        }
+
+        return sortedOrder(column, size, descending);
+    }
+
+    /**
+     * Returns the positions of the first {@code size} strengths ordered by strength; equal
+     * strengths keep their original order in both directions.
+     */
+    public static int[] sortedOrder(final int[] strengths, final int size, final boolean descending) {
+        final var flip = descending ? KEY_MASK : 0;
+        final var counts = new int[(1 << DIGIT_BITS) + 1];
+        final var buffer = new int[size];
+        final var order = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            counts[((strengths[i] ^ flip) & DIGIT_MASK) + 1]++;
+        }
+
+        accumulate(counts);
+
+        for (int i = 0; i < size; i++) {
+            buffer[counts[(strengths[i] ^ flip) & DIGIT_MASK]++] = i;
+        }
+
+        Arrays.fill(counts, 0);
+
+        for (int i = 0; i < size; i++) {
+            counts[(((strengths[i] ^ flip) >>> DIGIT_BITS) & DIGIT_MASK) + 1]++;
+        }
+
+        accumulate(counts);
+
+        for (int i = 0; i < size; i++) {
+            final var index = buffer[i];
+            order[counts[((strengths[index] ^ flip) >>> DIGIT_BITS) & DIGIT_MASK]++] = index;
+        }
+
+        return order;
+    }
+
+    private static void accumulate(final int[] counts) {
+        for (int digit = 1; digit < counts.length; digit++) {
+            counts[digit] += counts[digit - 1];
+        }
+    }
+}
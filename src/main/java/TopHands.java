@@ -0,0 +1,167 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Keeps the {@code k} strongest hands seen so far in a bounded min-heap keyed by packed strength.
+ * Among equal hands the earlier offered one ranks higher, so the result does not depend on heap order.
+ */
+public class TopHands {
+    // Strengths take 24 bits, so 39 bits of sequence keep every key positive
+    private static final int SEQUENCE_BITS = 39;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long[] keys;
+    private final PokerHand[] hands;
+    private int size;
+    private long offered;
+
+    public TopHands(final int k) {
+        this(k, k);
+    }
+
+    /**
+     * Sizes the heap for at most {@code expectedHands} offers, so a large {@code k} over few hands
+     * does not allocate {@code k} slots.
+     */
+    TopHands(final int k, final int expectedHands) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("K must be positive");
+        }
+
+        final var capacity = Math.min(k, expectedHands);
+
+        this.keys = new long[capacity];
+        this.hands = new PokerHand[capacity];
+    }
+
+    static long key(final int strength, final long sequence) {
+        return ((long) strength << SEQUENCE_BITS) | (SEQUENCE_MASK - sequence);
+    }
+
+    public void offer(final PokerHand hand) {
+        offer(hand.getStrength(), hand);
+    }
+
+    /**
+     * Offers a strength without a hand; {@link #toSequences()} tells which offers were kept.
+     */
+    void offer(final int strength) {
+        offer(strength, null);
+    }
+
+    private void offer(final int strength, final PokerHand hand) {
+        if (offered > SEQUENCE_MASK) {
+            throw new IllegalStateException("Too many hands offered");
+        }
+
+        final var key = key(strength, offered++);
+
+        if (size < keys.length) {
+            keys[size] = key;
+            hands[size] = hand;
+            siftUp(size++);
+        } else if (key > keys[0]) {
+            keys[0] = key;
+            hands[0] = hand;
+            siftDown(0);
+        }
+    }
+
+    public void offerAll(final Iterable<PokerHand> hands) {
+        for (final PokerHand hand : hands) {
+            offer(hand);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kept hands, strongest first.
+     */
+    public List<PokerHand> toList() {
+        final var sortedKeys = Arrays.copyOf(keys, size);
+        final var sortedHands = Arrays.copyOf(hands, size);
+
+        // Popping the minimum to the end of a min-heap leaves it in descending order
+        for (int last = size - 1; last > 0; last--) {
+            swap(sortedKeys, sortedHands, 0, last);
+            siftDown(sortedKeys, sortedHands, last, 0);
+        }
+
+        return new ArrayList<>(Arrays.asList(sortedHands));
+    }
+
+    /**
+     * Returns the zero based offer numbers of the kept hands, strongest first.
+     */
+    int[] toSequences() {
+        final var sorted = Arrays.copyOf(keys, size);
+        Arrays.sort(sorted);
+
+        final var sequences = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            sequences[i] = (int) (SEQUENCE_MASK - (sorted[size - 1 - i] & SEQUENCE_MASK));
+        }
+
+        return sequences;
+    }
+
+    private void siftUp(final int from) {
+        var child = from;
+
+        while (child > 0) {
+            final var parent = (child - 1) >>> 1;
+
+            if (keys[parent] <= keys[child]) {
+                return;
+            }
+
+            swap(parent, child);
+            child = parent;
+        }
+    }
+
+    private void siftDown(final int from) {
+        siftDown(keys, hands, size, from);
+    }
+
+    private void swap(final int first, final int second) {
+        swap(keys, hands, first, second);
+    }
+
+    private static void siftDown(final long[] keys, final PokerHand[] hands, final int size, final int from) {
+        var parent = from;
+
+        while (true) {
+            final var left = 2 * parent + 1;
+
+            if (left >= size) {
+                return;
+            }
+
+            final var right = left + 1;
+            final var child = right < size && keys[right] < keys[left] ? right : left;
+
+            if (keys[parent] <= keys[child]) {
+                return;
+            }
+
+            swap(keys, hands, parent, child);
+            parent = child;
+        }
+    }
+
+    private static void swap(final long[] keys, final PokerHand[] hands, final int first, final int second) {
+        final var key = keys[first];
+        keys[first] = keys[second];
+        keys[second] = key;
+
+        final var hand = hands[first];
+        hands[first] = hands[second];
+        hands[second] = hand;
+    }
+}
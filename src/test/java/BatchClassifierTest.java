@@ -0,0 +1,41 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BatchClassifierTest {
+
+    @Test
+    void shouldMatchHandTypeOnEveryFiveCardHand() {
+        final var masks = new long[2_598_960];
+        final var expected = new int[masks.length];
+        var hand = 0;
+
+        for (int c1 = 0; c1 < CardCode.CARDS_COUNT; c1++)
+        for (int c2 = c1 + 1; c2 < CardCode.CARDS_COUNT; c2++)
+        for (int c3 = c2 + 1; c3 < CardCode.CARDS_COUNT; c3++)
+        for (int c4 = c3 + 1; c4 < CardCode.CARDS_COUNT; c4++)
+        for (int c5 = c4 + 1; c5 < CardCode.CARDS_COUNT; c5++) {
+            masks[hand] = CardMask.ofIndexes(c1, c2, c3, c4, c5);
+            expected[hand++] = HandType.fromStrength(HandEvaluator.evaluateIndexes(c1, c2, c3, c4, c5)).ordinal();
+        }
+
+        Assertions.assertArrayEquals(expected, BatchClassifier.classify(masks));
+    }
+
+    @Test
+    void shouldClassifyColumns() {
+        final var hands = new String[] {"TS JS QS KS AS", "KC KH 7D 7C 5S", "2S 3S 4S 5S 6S", "6S 6D 6H 6C KS", "3C 4H 5D 6C 7S"};
+        final var masks = new long[hands.length];
+
+        for (int hand = 0; hand < hands.length; hand++) {
+            masks[hand] = CardMask.parse(hands[hand]);
+        }
+
+        final var handTypes = BatchClassifier.classify(masks);
+
+        Assertions.assertEquals(HandType.ROYAL_FLASH.ordinal(), handTypes[0]);
+        Assertions.assertEquals(HandType.TWO_PAIRS.ordinal(), handTypes[1]);
+        Assertions.assertEquals(HandType.STRAIGHT_FLUSH.ordinal(), handTypes[2]);
+        Assertions.assertEquals(HandType.FOUR_OF_A_KIND.ordinal(), handTypes[3]);
+        Assertions.assertEquals(HandType.STRAIGHT.ordinal(), handTypes[4]);
+    }
+}
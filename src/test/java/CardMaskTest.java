@@ -0,0 +1,38 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CardMaskTest {
+
+    @Test
+    void shouldConvertEveryCardIndex() {
+        for (int index = 0; index < CardCode.CARDS_COUNT; index++) {
+            final var card = CardCode.toCard(index);
+            final var mask = CardMask.of(card);
+
+            Assertions.assertEquals(index, CardCode.index(card));
+            Assertions.assertEquals(1, CardMask.size(mask));
+            Assertions.assertTrue(CardMask.contains(mask, index));
+            Assertions.assertEquals(index, CardCode.index(CardMask.toCards(mask).get(0)));
+        }
+    }
+
+    @Test
+    void shouldRoundTripPokerHand() {
+        final var hand = new PokerHand("TC 4H 7D KC 2S");
+        final var mask = CardMask.of(hand);
+        final var restored = CardMask.toPokerHand(mask);
+
+        Assertions.assertEquals(5, CardMask.size(mask));
+        Assertions.assertEquals(hand.getStrength(), restored.getStrength());
+        Assertions.assertEquals(hand.getStrength(), CardMask.evaluate(mask));
+        Assertions.assertEquals("2S 4H 7D TC KC", CardMask.toString(mask));
+    }
+
+    @Test
+    void shouldRejectIncompleteHandMask() {
+        final var mask = CardMask.of(new PokerHand("KC KC QC JC 2C"));
+
+        Assertions.assertEquals(4, CardMask.size(mask));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CardMask.evaluate(mask));
+    }
+}
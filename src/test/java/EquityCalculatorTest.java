@@ -0,0 +1,82 @@
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class EquityCalculatorTest {
+
+    private static EquityCalculator calculator;
+
+    @BeforeAll
+    static void setUp() {
+        calculator = new EquityCalculator(2, EquityCalculator.DEFAULT_EXHAUSTIVE_LIMIT);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        calculator.close();
+    }
+
+    @Test
+    void shouldEnumerateRiver() {
+        final var holeCards = new long[] {CardMask.parse("AS AD"), CardMask.parse("KS KD")};
+        final var result = calculator.enumerate(holeCards, CardMask.parse("2C 7H 9D JC"), CardMask.EMPTY);
+
+        Assertions.assertTrue(result.isExhaustive());
+        Assertions.assertEquals(44, result.getTrials());
+        Assertions.assertEquals(2, result.getWins(1));
+        Assertions.assertEquals(42, result.getWins(0));
+        Assertions.assertEquals(result.getWins(0), result.getLosses(1));
+    }
+
+    @Test
+    void shouldSplitPotOnBoard() {
+        final var holeCards = new long[] {CardMask.parse("2S 3D"), CardMask.parse("2H 3C"), CardMask.parse("4D 5D")};
+        final var result = calculator.enumerate(holeCards, CardMask.parse("AS KH QC JD TH"), CardMask.EMPTY);
+
+        Assertions.assertEquals(1, result.getTrials());
+        Assertions.assertEquals(1, result.getTies(2));
+        Assertions.assertEquals(1.0 / 3, result.getEquity(0), 1e-9);
+    }
+
+    @Test
+    void shouldMatchEnumerationWithSampling() {
+        final var holeCards = new long[] {CardMask.parse("AS KS"), CardMask.parse("QH QD")};
+        final var board = CardMask.parse("2S 7S JH");
+        final var dead = CardMask.parse("3C");
+
+        final var exact = calculator.enumerate(holeCards, board, dead);
+        final var sampled = calculator.simulate(holeCards, board, dead, 200_000, 42, 0);
+
+        Assertions.assertEquals(946, exact.getTrials());
+        Assertions.assertEquals(200_000, sampled.getTrials());
+        Assertions.assertEquals(exact.getEquity(0), sampled.getEquity(0), 4 * sampled.getMarginOfError(0));
+    }
+
+    @Test
+    void shouldBeReproducibleAndStopEarly() {
+        final var holeCards = new long[] {CardMask.parse("AS KS"), CardMask.parse("QH QD"), CardMask.parse("7C 8C")};
+        final var first = calculator.simulate(holeCards, CardMask.EMPTY, CardMask.EMPTY, 10_000_000, 7, 0.01);
+
+        try (final var singleThread = new EquityCalculator(1, 0)) {
+            final var second = singleThread.calculate(holeCards, CardMask.EMPTY, CardMask.EMPTY, 10_000_000, 7, 0.01);
+
+            Assertions.assertFalse(second.isExhaustive());
+            Assertions.assertEquals(first.getTrials(), second.getTrials());
+            Assertions.assertEquals(first.getWins(2), second.getWins(2));
+        }
+
+        Assertions.assertTrue(first.getTrials() < 10_000_000);
+        Assertions.assertTrue(first.getMarginOfError(0) <= 0.01);
+    }
+
+    @Test
+    void shouldRejectConflictingCards() {
+        final var holeCards = new long[] {CardMask.parse("AS KS"), CardMask.parse("AS QD")};
+
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> calculator.enumerate(holeCards, CardMask.EMPTY, CardMask.EMPTY)
+        );
+    }
+}
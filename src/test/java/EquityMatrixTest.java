@@ -0,0 +1,94 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class EquityMatrixTest {
+
+    @Test
+    void shouldParseRanges() {
+        Assertions.assertEquals(4, HandRange.parse("AKs").size());
+        Assertions.assertEquals(12, HandRange.parse("AKo").size());
+        Assertions.assertEquals(16, HandRange.parse("AK").size());
+        Assertions.assertEquals(30, HandRange.parse("TT+").size());
+        Assertions.assertEquals(24, HandRange.parse("22-55").size());
+        Assertions.assertEquals(48, HandRange.parse("A2s+").size());
+        Assertions.assertEquals(16, HandRange.parse("A5s-A2s").size());
+        Assertions.assertEquals(1, HandRange.parse("AsKs").size());
+        Assertions.assertEquals(34, HandRange.parse("AKs+, TT+, AsKs").size());
+        Assertions.assertEquals(HandRange.ALL_COMBINATIONS, HandRange.parse("100%").size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandRange.parse("KAs"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandRange.parse("AKx"));
+    }
+
+    @Test
+    void shouldRankStrongHandsFirstInPercentRange() {
+        final var range = HandRange.parse("5%");
+
+        Assertions.assertTrue(range.size() >= 60 && range.size() <= 72);
+        Assertions.assertEquals(range.size(), HandRange.parse("5%, AA").size());
+    }
+
+    @Test
+    void shouldMatchSingleMatchupEquity() {
+        final var board = CardMask.parse("2C 7H 9D");
+        final var matrix = EquityMatrix.calculate(HandRange.parse("AsAd"), HandRange.parse("KsKd"), board, CardMask.EMPTY);
+
+        try (final var calculator = new EquityCalculator(1, EquityCalculator.DEFAULT_EXHAUSTIVE_LIMIT)) {
+            final var holeCards = new long[] {CardMask.parse("AS AD"), CardMask.parse("KS KD")};
+            final var expected = calculator.enumerate(holeCards, board, CardMask.EMPTY);
+
+            Assertions.assertEquals(expected.getTrials(), matrix.getRunouts(0, 0));
+            Assertions.assertEquals(expected.getEquity(0), matrix.getEquity(0, 0), 1e-9);
+        }
+    }
+
+    @Test
+    void shouldRemoveConflictingCombinations() {
+        final var matrix = EquityMatrix.calculate(
+            HandRange.parse("AA"),
+            HandRange.parse("AK"),
+            CardMask.parse("AS 7H 9D 2C"),
+            CardMask.parse("KD")
+        );
+
+        Assertions.assertEquals(3, matrix.getRows().size());
+        Assertions.assertEquals(9, matrix.getColumns().size());
+
+        for (int row = 0; row < matrix.getRows().size(); row++) {
+            for (int column = 0; column < matrix.getColumns().size(); column++) {
+                final var shared = (matrix.getRows().get(row) & matrix.getColumns().get(column)) != 0;
+
+                Assertions.assertEquals(shared, Double.isNaN(matrix.getEquity(row, column)));
+            }
+        }
+    }
+
+    @Test
+    void shouldBeSymmetric() {
+        final var board = CardMask.parse("TS 8H 3C JD");
+        final var hero = HandRange.parse("AKs+, TT+, 22-55");
+        final var villain = HandRange.parse("20%");
+        final var matrix = EquityMatrix.calculate(hero, villain, board, CardMask.EMPTY);
+        final var reversed = EquityMatrix.calculate(villain, hero, board, CardMask.EMPTY);
+
+        Assertions.assertEquals(1.0, matrix.getEquity() + reversed.getEquity(), 1e-9);
+
+        for (int row = 0; row < matrix.getRows().size(); row++) {
+            for (int column = 0; column < matrix.getColumns().size(); column++) {
+                Assertions.assertEquals(matrix.getRunouts(row, column), reversed.getRunouts(column, row));
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchWithCachedEvaluator() {
+        final var board = CardMask.parse("TS 8H 3C JD");
+        final var hero = HandRange.parse("AKs+, TT+");
+        final var villain = HandRange.parse("10%");
+        final var cache = HandCache.sevenCard(1 << 16);
+        final var direct = EquityMatrix.calculate(hero, villain, board, CardMask.EMPTY);
+        final var cached = EquityMatrix.calculate(hero, villain, board, CardMask.EMPTY, cache);
+
+        Assertions.assertEquals(direct.getEquity(), cached.getEquity(), 0);
+        Assertions.assertTrue(cache.getHits() > 0);
+    }
+}
@@ -0,0 +1,56 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class EvaluationBatcherTest {
+
+    @Test
+    void shouldMergeRequestsQueuedBehindALargeOne() throws Exception {
+        final var hand = new int[HandParser.HAND_SIZE];
+        HandParser.STRICT.parse("KC KH 7D 2C 5S", 0, hand, 0);
+        final var strength = new PokerHand("KC KH 7D 2C 5S").getStrength();
+
+        try (final var batcher = new EvaluationBatcher(1 << 16)) {
+            final var large = batcher.evaluate(repeat(hand, 1 << 20));
+            final var small = new ArrayList<CompletableFuture<int[]>>();
+
+            for (int i = 0; i < 100; i++) {
+                small.add(batcher.evaluate(hand));
+            }
+
+            Assertions.assertEquals(1 << 20, large.get(30, TimeUnit.SECONDS).length);
+
+            for (final CompletableFuture<int[]> result : small) {
+                Assertions.assertArrayEquals(new int[]{strength}, result.get(30, TimeUnit.SECONDS));
+            }
+
+            Assertions.assertEquals(101, batcher.getRequests());
+            Assertions.assertTrue(batcher.getBatches() < batcher.getRequests());
+        }
+    }
+
+    @Test
+    void shouldFailRequestsAfterClose() {
+        final var batcher = new EvaluationBatcher(16);
+        batcher.close();
+
+        final var result = batcher.evaluate(new int[HandParser.HAND_SIZE]);
+
+        Assertions.assertTrue(result.isCompletedExceptionally());
+        Assertions.assertThrows(ExecutionException.class, result::get);
+    }
+
+    private static int[] repeat(final int[] hand, final int count) {
+        final var cardIndexes = new int[hand.length * count];
+
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(hand, 0, cardIndexes, i * hand.length, hand.length);
+        }
+
+        return cardIndexes;
+    }
+}
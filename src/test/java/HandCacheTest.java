@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+class HandCacheTest {
+
+    @Test
+    void shouldShareEntryBetweenSuitPermutations() {
+        final var cache = HandCache.sevenCard(1024);
+        final var spades = CardMask.parse("AS KS QS JS 9S 2H 2D");
+        final var clubs = CardMask.parse("AC KC QC JC 9C 2S 2H");
+
+        Assertions.assertEquals(HandCache.canonical(spades), HandCache.canonical(clubs));
+        Assertions.assertEquals(HandType.FLUSH, cache.getHandType(spades));
+        Assertions.assertEquals(SevenCardEvaluator.evaluate(clubs), cache.evaluate(clubs));
+        Assertions.assertEquals(1, cache.getHits());
+        Assertions.assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void shouldStayBoundedAndCorrect() {
+        final var cache = HandCache.sevenCard(64);
+        final var random = new SplittableRandom(3);
+
+        for (int i = 0; i < 10_000; i++) {
+            var mask = CardMask.EMPTY;
+
+            while (CardMask.size(mask) < 7) {
+                mask |= CardCode.bit(random.nextInt(CardCode.CARDS_COUNT));
+            }
+
+            Assertions.assertEquals(SevenCardEvaluator.evaluate(mask), cache.evaluate(mask));
+        }
+
+        Assertions.assertEquals(64, cache.getCapacity());
+        Assertions.assertEquals(10_000, cache.getHits() + cache.getMisses());
+        Assertions.assertTrue(cache.getEvictions() >= cache.getMisses() - cache.getCapacity());
+    }
+
+    @Test
+    void shouldStayCorrectUnderConcurrentAccess() throws Exception {
+        final var cache = HandCache.sevenCard(256);
+        final var masks = new long[4_096];
+        final var random = new SplittableRandom(5);
+
+        for (int i = 0; i < masks.length; i++) {
+            while (CardMask.size(masks[i]) < 7) {
+                masks[i] |= CardCode.bit(random.nextInt(CardCode.CARDS_COUNT));
+            }
+        }
+
+        final var threads = new Thread[4];
+        final var failures = new LongAdder();
+
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int round = 0; round < 20; round++) {
+                    for (final long mask : masks) {
+                        if (cache.evaluate(mask) != SevenCardEvaluator.evaluate(mask)) {
+                            failures.increment();
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(0, failures.sum());
+        Assertions.assertEquals(4L * 20 * masks.length, cache.getHits() + cache.getMisses());
+    }
+}
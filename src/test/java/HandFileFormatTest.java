@@ -0,0 +1,97 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+class HandFileFormatTest {
+
+    private static final List<String> HANDS = List.of(
+        "KC KH 7D 2C 5S",
+        "2S 3S 4S 5S 6S",
+        "TC 4H 7D KC 2S",
+        "KD KS 7H 2D 5C",
+        "6S 6D 6H 6C KS"
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRoundTripTextThroughBinary() throws IOException {
+        final var text = directory.resolve("hands.txt");
+        final var binary = directory.resolve("hands.bin");
+        final var decoded = directory.resolve("decoded.txt");
+
+        Files.write(text, HANDS);
+
+        Assertions.assertEquals(HANDS.size(), HandFileWriter.fromText(text, binary, true, 2));
+        Assertions.assertEquals(HandFileWriter.HEADER_BYTES + 5 * 8 + 3 * HandFileWriter.INDEX_ENTRY_BYTES, Files.size(binary));
+        Assertions.assertEquals(HANDS.size(), HandFileReader.toText(binary, decoded));
+        Assertions.assertEquals(HANDS, Files.readAllLines(decoded));
+    }
+
+    @Test
+    void shouldSeekBlocksAndReadStrengths() throws IOException {
+        final var path = directory.resolve("hands.bin");
+
+        try (final var writer = new HandFileWriter(path, false, 2)) {
+            for (final String hand : HANDS) {
+                writer.write(new PokerHand(hand));
+            }
+        }
+
+        try (final var reader = new HandFileReader(path)) {
+            Assertions.assertEquals(HANDS.size(), reader.size());
+            Assertions.assertFalse(reader.hasStrengths());
+            Assertions.assertEquals(3, reader.getBlocksCount());
+            Assertions.assertEquals(2, reader.blockOf(4));
+            Assertions.assertEquals(4, reader.getFirstHand(2));
+
+            final var cardIndexes = new int[2 * HandParser.HAND_SIZE];
+            final var strengths = new int[2];
+
+            Assertions.assertEquals(1, reader.readBlock(2, cardIndexes, strengths));
+            Assertions.assertEquals(new PokerHand("6S 6D 6H 6C KS").getStrength(), strengths[0]);
+            Assertions.assertEquals(2, reader.readBlock(0, cardIndexes, strengths));
+            Assertions.assertEquals(new PokerHand("2S 3S 4S 5S 6S").getStrength(), strengths[1]);
+        }
+    }
+
+    @Test
+    void shouldDetectCorruptedBlocks() throws IOException {
+        final var text = directory.resolve("hands.txt");
+        final var binary = directory.resolve("hands.bin");
+
+        Files.write(text, HANDS);
+        HandFileWriter.fromText(text, binary, false, HandFileWriter.DEFAULT_BLOCK_HANDS);
+
+        try (final var channel = FileChannel.open(binary, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1}), HandFileWriter.HEADER_BYTES + 1);
+        }
+
+        try (final var reader = new HandFileReader(binary)) {
+            Assertions.assertThrows(IOException.class, () -> reader.readBlock(0, new int[HANDS.size() * 5], null));
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidTextLines() throws IOException {
+        final var text = directory.resolve("hands.txt");
+
+        Files.write(text, List.of("KC KH 7D 2C 5S", "", "KC KH 7D 2C"));
+
+        final var error = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> HandFileWriter.fromText(text, directory.resolve("hands.bin"), false, 2)
+        );
+
+        Assertions.assertEquals("Invalid hand at line 3", error.getMessage());
+    }
+}
@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+class HandFileSorterTest {
+
+    private static final List<String> INPUT = List.of(
+        "KC KH 7D 2C 5S",
+        "2S 3S 4S 5S 6S",
+        "",
+        "TC 4H 7D KC 2S",
+        "KD KS 7H 2D 5C",
+        "6S 6D 6H 6C KS\r"
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldSortHandsInMemory() throws IOException {
+        assertSorted(HandFileSorter.DEFAULT_CHUNK_SIZE);
+    }
+
+    @Test
+    void shouldMergeSortedRuns() throws IOException {
+        assertSorted(2);
+    }
+
+    @Test
+    void shouldGrowChunkBeyondInitialCapacity() throws IOException {
+        final var lines = new ArrayList<String>();
+
+        for (int i = 0; i < 3_000; i++) {
+            lines.add(i % 2 == 0 ? "2S 3S 4S 5S 6S" : "TC 4H 7D KC 2S");
+        }
+
+        final var input = write(lines);
+        final var output = directory.resolve("sorted.txt");
+
+        Assertions.assertEquals(3_000, new HandFileSorter(HandFileSorter.DEFAULT_CHUNK_SIZE, false).sort(input, output));
+
+        final var sorted = Files.readAllLines(output);
+
+        Assertions.assertEquals("TC 4H 7D KC 2S", sorted.get(1_499));
+        Assertions.assertEquals("2S 3S 4S 5S 6S", sorted.get(1_500));
+    }
+
+    @Test
+    void shouldWriteLineIndexes() throws IOException {
+        final var input = write(INPUT);
+        final var output = directory.resolve("indices.txt");
+
+        Assertions.assertEquals(5, new HandFileSorter(2, true).sort(input, output));
+        Assertions.assertEquals(List.of("3", "0", "4", "5", "1"), Files.readAllLines(output));
+    }
+
+    @Test
+    void shouldReportInvalidLine() throws IOException {
+        final var input = write(List.of("KC KH 7D 2C 5S", "KC KH 7D 2C"));
+
+        final var exception = Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new HandFileSorter(2, false).sort(input, directory.resolve("out.txt"))
+        );
+
+        Assertions.assertEquals("Invalid hand at line 1", exception.getMessage());
+    }
+
+    private void assertSorted(final int chunkSize) throws IOException {
+        final var input = write(INPUT);
+        final var output = directory.resolve("sorted.txt");
+
+        Assertions.assertEquals(5, new HandFileSorter(chunkSize, false).sort(input, output));
+        Assertions.assertEquals(
+            List.of("TC 4H 7D KC 2S", "KC KH 7D 2C 5S", "KD KS 7H 2D 5C", "6S 6D 6H 6C KS", "2S 3S 4S 5S 6S"),
+            Files.readAllLines(output)
+        );
+    }
+
+    private Path write(final List<String> lines) throws IOException {
+        return Files.writeString(directory.resolve("hands.txt"), String.join("\n", lines));
+    }
+}
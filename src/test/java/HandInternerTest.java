@@ -0,0 +1,106 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+
+class HandInternerTest {
+
+    @Test
+    void shouldCompareHandsByValue() {
+        final var first = new PokerHand("KC KH 7D 2C 5S");
+        final var reordered = new PokerHand("5S 2C 7D KH KC");
+        final var otherSuits = new PokerHand("KD KS 7H 2D 5C");
+
+        Assertions.assertEquals(first, reordered);
+        Assertions.assertEquals(first.hashCode(), reordered.hashCode());
+        Assertions.assertNotEquals(first, otherSuits);
+        Assertions.assertEquals(0, first.compareTo(otherSuits));
+        Assertions.assertNotEquals(0, PokerHand.TOTAL_ORDER.compare(first, otherSuits));
+        Assertions.assertEquals(0, PokerHand.TOTAL_ORDER.compare(first, reordered));
+        Assertions.assertEquals(2, new HashSet<>(List.of(first, reordered, otherSuits)).size());
+        Assertions.assertNotEquals(new PokerHand("KC KC 7D 2C 5S"), new PokerHand("KC 7D 7D 2C 5S"));
+    }
+
+    @Test
+    void shouldShareCards() {
+        Assertions.assertSame(Card.of(CardRating.ACE, CardSuit.SPADES), new PokerHand("AS 2H 3D 4C 6S").getCards().get(4));
+        Assertions.assertEquals(new Card(CardRating.ACE, CardSuit.SPADES), Card.of(CardRating.ACE, CardSuit.SPADES));
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> new PokerHand("AS 2H 3D 4C 6S").getCards().clear());
+    }
+
+    @Test
+    void shouldInternAndCountConcurrently() throws Exception {
+        final var interner = new HandInterner();
+        final var hands = List.of("KC KH 7D 2C 5S", "5S 2C 7D KH KC", "2S 3S 4S 5S 6S");
+        final var executor = Executors.newFixedThreadPool(4);
+        final var tasks = new ArrayList<Callable<Void>>();
+
+        for (int task = 0; task < 8; task++) {
+            tasks.add(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    interner.intern(hands.get(i % hands.size()));
+                }
+                return null;
+            });
+        }
+
+        try {
+            for (final var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        final var pooled = interner.intern(new PokerHand("KH KC 7D 2C 5S"));
+
+        Assertions.assertEquals(2, interner.size());
+        Assertions.assertSame(pooled, interner.intern("KC KH 7D 2C 5S"));
+        Assertions.assertEquals(8 * 667 + 2, interner.getCount(pooled));
+        Assertions.assertEquals(8 * 333, interner.getCount(new PokerHand("6S 5S 4S 3S 2S")));
+    }
+
+    @Test
+    void shouldGiveEveryHandItsOwnSlot() {
+        final var lowest = new int[] {0, 0, 0, 0, 0};
+        final var highest = new int[] {51, 51, 51, 51, 51};
+
+        Assertions.assertEquals(0, HandInterner.slot(PokerHand.key(lowest, 0)));
+        Assertions.assertEquals(3_819_815, HandInterner.slot(PokerHand.key(highest, 0)));
+
+        final var random = new SplittableRandom(25);
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        for (int i = 0; i < 100_000; i++) {
+            for (int card = 0; card < indexes.length; card++) {
+                indexes[card] = random.nextInt(CardCode.CARDS_COUNT);
+            }
+
+            final var key = PokerHand.key(indexes, 0);
+
+            Assertions.assertEquals(key, HandInterner.key(HandInterner.slot(key)));
+        }
+    }
+
+    @Test
+    void shouldCountWithoutPooling() {
+        final var interner = new HandInterner();
+
+        interner.count("KC KH 7D 2C 5S");
+        interner.count("5S 2C 7D KH KC");
+        interner.count("AS AS AS AS AS");
+
+        final var counts = new HashMap<PokerHand, Long>();
+        interner.forEach(counts::put);
+
+        Assertions.assertEquals(2, interner.size());
+        Assertions.assertEquals(Map.of(new PokerHand("KC KH 7D 2C 5S"), 2L, new PokerHand("AS AS AS AS AS"), 1L), counts);
+    }
+}
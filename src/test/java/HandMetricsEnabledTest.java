@@ -0,0 +1,50 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs in its own surefire execution with {@code -Dpoker.metrics=true}, see pom.xml.
+ */
+class HandMetricsEnabledTest {
+
+    @BeforeEach
+    void setUp() {
+        Assumptions.assumeTrue(HandMetrics.ENABLED, "poker.metrics is not set");
+        HandMetrics.reset();
+    }
+
+    @Test
+    void shouldRecordParsingEvaluationAndComparison() {
+        final var first = new PokerHand("KC KH 7D 2C 5S");
+        final var second = new PokerHand("KD KS 7H 2D 4C");
+
+        Assertions.assertEquals(2, HandMetrics.getParseHistogram().getCount());
+        Assertions.assertEquals(2, HandMetrics.getEvaluationHistogram(HandType.PAIR).getCount());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PokerHand("KC KH 7D"));
+        Assertions.assertEquals(1, HandMetrics.getParseErrors());
+
+        Assertions.assertEquals(1, first.compareTo(second));
+        Assertions.assertEquals(1, HandType.compareSameHands(first, second));
+        Assertions.assertEquals(2, HandMetrics.getComparisonHistogram().getCount());
+
+        Assertions.assertEquals(HandType.PAIR, HandType.getHandType(first));
+        Assertions.assertEquals(3, HandMetrics.getEvaluationHistogram().getCount());
+    }
+
+    @Test
+    void shouldRecordPipelineParseErrors() throws Exception {
+        final var input = "KC KH 7D 2C 5S\nnot a hand\n2S 3S 4S 5S 6S\n";
+
+        new HandPipeline(2, 1, 1).run(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII)),
+            new StrengthHistogram()
+        );
+
+        Assertions.assertEquals(1, HandMetrics.getParseErrors());
+    }
+}
@@ -0,0 +1,53 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+
+class HandMetricsTest {
+
+    @Test
+    void shouldKeepValuesWithinBucketPrecision() {
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            final var lowerBound = LatencyHistogram.lowerBound(LatencyHistogram.bucketOf(value));
+
+            Assertions.assertTrue(lowerBound <= value, "value " + value);
+            Assertions.assertTrue(value - lowerBound <= value / 4, "value " + value);
+        }
+    }
+
+    @Test
+    void shouldComputePercentiles() {
+        final var histogram = new LatencyHistogram();
+
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 10L);
+        }
+
+        Assertions.assertEquals(100, histogram.getCount());
+        Assertions.assertEquals(505, histogram.getMean(), 1e-9);
+        Assertions.assertEquals(448, histogram.getPercentile(50));
+        Assertions.assertEquals(896, histogram.getPercentile(99));
+    }
+
+    @Test
+    void shouldExposeMetricsThroughJmx() throws Exception {
+        HandMetrics.reset();
+        HandMetrics.recordEvaluation(HandType.FLUSH, System.nanoTime());
+        HandMetrics.recordParseError();
+        HandMetrics.registerCache("test", HandCache.sevenCard(16));
+        HandMetrics.registerMBean();
+
+        final var server = ManagementFactory.getPlatformMBeanServer();
+        final var name = new ObjectName("poker:type=HandMetrics");
+
+        Assertions.assertEquals(1L, server.getAttribute(name, "Evaluations"));
+        Assertions.assertEquals(1L, server.getAttribute(name, "ParseErrors"));
+        Assertions.assertEquals(1, HandMetrics.getEvaluationHistogram(HandType.FLUSH).getCount());
+        Assertions.assertTrue(HandMetrics.report().contains("cache test: hitRate=0.0000"));
+
+        HandMetrics.unregisterCache("test");
+
+        Assertions.assertFalse(HandMetrics.report().contains("cache test"));
+    }
+}
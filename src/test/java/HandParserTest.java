@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class HandParserTest {
+
+    @Test
+    void shouldParseEverySourceAtOffset() {
+        final var line = "xx TC 4H 7D KC 2S\n";
+        final var expected = new int[HandParser.HAND_SIZE];
+        final var actual = new int[HandParser.HAND_SIZE];
+        final var bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+        Assertions.assertEquals(17, HandParser.STRICT.parse(line, 3, expected, 0));
+        Assertions.assertEquals(17, HandParser.STRICT.parse(line.toCharArray(), 3, actual, 0));
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(17, HandParser.STRICT.parse(bytes, 3, actual, 0));
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(17, HandParser.STRICT.parse(ByteBuffer.wrap(bytes), 3, actual, 0));
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(CardMask.of(new PokerHand("TC 4H 7D KC 2S")), HandParser.STRICT.parseMask(line, 3));
+    }
+
+    @Test
+    void shouldReportErrorPosition() {
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        assertPosition(6, () -> HandParser.STRICT.parse("TC 4H XD KC 2S", 0, indexes, 0));
+        assertPosition(7, () -> HandParser.STRICT.parse("TC 4H 7X KC 2S", 0, indexes, 0));
+        assertPosition(11, () -> HandParser.STRICT.parse("TC 4H 7D KC", 0, indexes, 0));
+        assertPosition(14, () -> HandParser.STRICT.parse("TC 4H 7D KC 2S 3S", 0, indexes, 0));
+        assertPosition(12, () -> HandParser.STRICT.parse("TC 4H 7D KC 4H", 0, indexes, 0));
+        assertPosition(14, () -> new PokerHand("TC 4H 7D KC 2Sx"));
+
+        final var separator = Assertions.assertThrows(
+            HandParseException.class,
+            () -> HandParser.STRICT.parse("TC 4H,7D KC 2S".getBytes(StandardCharsets.US_ASCII), 0, indexes, 0)
+        );
+
+        Assertions.assertEquals(5, separator.getPosition());
+        Assertions.assertEquals("Cards must be separated by a space at position 5", separator.getMessage());
+    }
+
+    @Test
+    void shouldAllowRepeatedCardsWhenLenient() {
+        final var indexes = new int[HandParser.HAND_SIZE];
+
+        Assertions.assertEquals(14, HandParser.LENIENT.parse("KC KH KD 7C 7C", 0, indexes, 0));
+        Assertions.assertEquals(indexes[3], indexes[4]);
+    }
+
+    private static void assertPosition(final int expected, final Runnable parse) {
+        final var exception = Assertions.assertThrows(HandParseException.class, parse::run);
+
+        Assertions.assertEquals(expected, exception.getPosition());
+    }
+}
@@ -0,0 +1,78 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class HandPipelineTest {
+
+    private static final String INPUT = String.join("\n",
+        "TC 4H 7D KC 2S",
+        "KC KH 7D 2C 5S\r",
+        "",
+        "not a hand",
+        "2S 3S 4S 5S 6S",
+        "6S 6D 6H 6C KS",
+        "KC KH KD 7C 5S"
+    );
+
+    @Test
+    void shouldEmitBatchesInInputOrder() throws Exception {
+        final var lines = new ArrayList<Long>();
+        final var sequences = new ArrayList<Long>();
+
+        final var stats = new HandPipeline(2, 3, 1).run(stream(INPUT), batch -> {
+            sequences.add(batch.getSequence());
+
+            for (int hand = 0; hand < batch.size(); hand++) {
+                lines.add(batch.getLine(hand));
+            }
+        });
+
+        Assertions.assertEquals(List.of(0L, 1L, 4L, 5L, 6L), lines);
+        Assertions.assertEquals(List.of(0L, 1L, 2L), sequences);
+        Assertions.assertEquals(6, stats.getLinesRead());
+        Assertions.assertEquals(5, stats.getHandsEvaluated());
+        Assertions.assertEquals(1, stats.getParseErrors());
+        Assertions.assertEquals(INPUT.length(), stats.getBytesRead());
+    }
+
+    @Test
+    void shouldFillHistogramAndWriter() throws Exception {
+        final var histogram = new StrengthHistogram();
+        final var out = new ByteArrayOutputStream();
+
+        new HandPipeline(4, 2, 2).run(stream(INPUT), histogram);
+        new HandPipeline(4, 2, 2).run(stream("TC 4H 7D KC 2S\nKC KH 7D 2C 5S\n"), new HandTextWriter(out));
+
+        Assertions.assertEquals(5, histogram.getTotal());
+        Assertions.assertEquals(1, histogram.getCount(HandType.STRAIGHT_FLUSH));
+        Assertions.assertEquals(1, histogram.getCount(HandType.FOUR_OF_A_KIND));
+        Assertions.assertEquals(
+            "0 TC 4H 7D KC 2S HIGH_CARD\n1 KC KH 7D 2C 5S PAIR\n",
+            out.toString(StandardCharsets.US_ASCII)
+        );
+    }
+
+    @Test
+    void shouldPropagateSinkFailure() {
+        final var input = "TC 4H 7D KC 2S\n".repeat(1000);
+
+        final var exception = Assertions.assertThrows(
+            IOException.class,
+            () -> new HandPipeline(10, 2, 1).run(stream(input), batch -> {
+                throw new IOException("disk full");
+            })
+        );
+
+        Assertions.assertEquals("disk full", exception.getMessage());
+    }
+
+    private static ByteArrayInputStream stream(final String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+class HandSelectionTest {
+
+    @Test
+    void shouldFindSplitPotWinners() {
+        final var strengths = new int[] {3, 7, 2, 7, 5};
+        final var winners = new int[strengths.length];
+
+        Assertions.assertEquals(2, HandSelection.winners(strengths, strengths.length, winners));
+        Assertions.assertEquals(1, winners[0]);
+        Assertions.assertEquals(3, winners[1]);
+        Assertions.assertEquals(0b1010L, HandSelection.winnersMask(strengths, strengths.length));
+    }
+
+    @Test
+    void shouldFindWinningHands() {
+        final var hands = List.of(
+            new PokerHand("KC KH 7D 2C 5S"),
+            new PokerHand("3C 4H 5D 6C 7S"),
+            new PokerHand("3D 4C 5H 6S 7H"),
+            new PokerHand("TC 4H 7D KC 2S")
+        );
+
+        Assertions.assertEquals(List.of(hands.get(1), hands.get(2)), HandSelection.winners(hands));
+    }
+
+    @Test
+    void shouldSelectTopKLikeFullSort() {
+        final var random = new SplittableRandom(11);
+        final var strengths = new int[10_000];
+
+        for (int i = 0; i < strengths.length; i++) {
+            strengths[i] = random.nextInt(500);
+        }
+
+        final var sorted = StrengthSorter.sortedOrder(strengths, true);
+        final var top = HandSelection.topK(strengths, 100);
+
+        for (int i = 0; i < top.length; i++) {
+            Assertions.assertEquals(sorted[i], top[i]);
+        }
+
+        Assertions.assertEquals(3, HandSelection.topK(new int[] {1, 2, 3}, 10).length);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandSelection.topK(new int[] {1, 2, 3}, -1));
+    }
+
+    @Test
+    void shouldSelectTopHands() {
+        final var hands = List.of(
+            new PokerHand("KC KH 7D 2C 5S"),
+            new PokerHand("2S 3S 4S 5S 6S"),
+            new PokerHand("TC 4H 7D KC 2S"),
+            new PokerHand("KC KH KD 7C 5S")
+        );
+
+        final var top = HandSelection.topK(hands, 2).stream().map(PokerHand::getHandType).collect(Collectors.toList());
+
+        Assertions.assertEquals(List.of(HandType.STRAIGHT_FLUSH, HandType.THREE_OF_A_KIND), top);
+    }
+
+    @Test
+    void shouldRankEarlierTiesHigherPastIntSequences() {
+        final var strength = new PokerHand("KC KH 7D 2C 5S").getStrength();
+
+        Assertions.assertTrue(TopHands.key(strength, 0) > TopHands.key(strength, 1L << 32));
+        Assertions.assertTrue(TopHands.key(strength + 1, 1L << 32) > TopHands.key(strength, 0));
+        Assertions.assertTrue(TopHands.key(HandType.ROYAL_FLASH.getRating() << HandEvaluator.HAND_TYPE_SHIFT, 0) > 0);
+    }
+}
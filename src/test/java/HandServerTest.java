@@ -0,0 +1,130 @@
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+class HandServerTest {
+
+    private static final String HANDS = "[\"KC KH 7D 2C 5S\", \"2S 3S 4S 5S 6S\", \"TC 4H 7D KC 2S\", \"KD KS 7H 2D 5C\"]";
+
+    private static HandServer server;
+    private static HttpClient client;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        server = HandServer.start(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), HandServer.DEFAULT_MAX_BATCH_HANDS);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        server.close();
+    }
+
+    @Test
+    void shouldEvaluateJson() throws Exception {
+        final var response = postJson("/evaluate", "[\"2S 3S 4S 5S 6S\"]");
+        final var strength = new PokerHand("2S 3S 4S 5S 6S").getStrength();
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals("[{\"strength\":" + strength + ",\"type\":\"STRAIGHT_FLUSH\"}]", response.body());
+    }
+
+    @Test
+    void shouldCompareSortAndRankJson() throws Exception {
+        Assertions.assertEquals("[-1,-1]", postJson("/compare", HANDS).body());
+        Assertions.assertEquals(
+            "[\"TC 4H 7D KC 2S\",\"KC KH 7D 2C 5S\",\"KD KS 7H 2D 5C\",\"2S 3S 4S 5S 6S\"]",
+            postJson("/sort", HANDS).body()
+        );
+        Assertions.assertEquals("[2,1,4,2]", postJson("/rank", HANDS).body());
+        Assertions.assertEquals("[]", postJson("/rank", " [ ] ").body());
+    }
+
+    @Test
+    void shouldRejectInvalidRequests() throws Exception {
+        Assertions.assertEquals(400, postJson("/evaluate", "[\"2S 3S 4S 5S\"]").statusCode());
+        Assertions.assertEquals(400, postJson("/evaluate", "{\"hands\": 1}").statusCode());
+        Assertions.assertEquals(400, postJson("/compare", "[\"2S 3S 4S 5S 6S\"]").statusCode());
+
+        final var get = client.send(
+            HttpRequest.newBuilder(uri("/evaluate")).GET().build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+
+        Assertions.assertEquals(405, get.statusCode());
+    }
+
+    @Test
+    void shouldServeBinaryRequests() throws Exception {
+        final var hand = CardMask.toCards(CardMask.parse("2S 3S 4S 5S 6S"));
+        final var body = new byte[HandParser.HAND_SIZE * 2];
+
+        for (int card = 0; card < HandParser.HAND_SIZE; card++) {
+            body[card] = (byte) CardCode.index(hand.get(card));
+            body[HandParser.HAND_SIZE + card] = (byte) card;
+        }
+
+        final var response = client.send(
+            HttpRequest.newBuilder(uri("/evaluate"))
+                .header("Content-Type", "application/octet-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofByteArray()
+        );
+        final var strengths = ByteBuffer.wrap(response.body());
+
+        Assertions.assertEquals(200, response.statusCode());
+        Assertions.assertEquals(new PokerHand("2S 3S 4S 5S 6S").getStrength(), strengths.getInt());
+        Assertions.assertEquals(new PokerHand("2S 2H 2D 2C 3S").getStrength(), strengths.getInt());
+    }
+
+    @Test
+    void shouldServeConcurrentRequests() throws Exception {
+        final var responses = new ArrayList<CompletableFuture<HttpResponse<String>>>();
+
+        for (int i = 0; i < 64; i++) {
+            responses.add(client.sendAsync(
+                HttpRequest.newBuilder(uri("/rank")).POST(HttpRequest.BodyPublishers.ofString(HANDS)).build(),
+                HttpResponse.BodyHandlers.ofString()
+            ));
+        }
+
+        for (final CompletableFuture<HttpResponse<String>> response : responses) {
+            Assertions.assertEquals("[2,1,4,2]", response.get().body());
+        }
+
+        final var stats = client.send(HttpRequest.newBuilder(uri("/stats")).GET().build(), HttpResponse.BodyHandlers.ofString());
+
+        Assertions.assertTrue(stats.body().startsWith("{\"requests\":"));
+        Assertions.assertTrue(stats.body().contains("\"batches\":"));
+        Assertions.assertTrue(server.getLatency().getCount() >= 64);
+        Assertions.assertTrue(server.getBatchedRequestsCount() >= 64);
+        Assertions.assertTrue(server.getBatchesCount() <= server.getBatchedRequestsCount());
+    }
+
+    private static HttpResponse<String> postJson(final String path, final String body) throws Exception {
+        return client.send(
+            HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    private static URI uri(final String path) {
+        return URI.create("http://127.0.0.1:" + server.getPort() + path);
+    }
+}
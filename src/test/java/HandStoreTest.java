@@ -0,0 +1,126 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+class HandStoreTest {
+
+    private static final List<String> HANDS = List.of(
+        "KC KH 7D 2C 5S",
+        "2S 3S 4S 5S 6S",
+        "TC 4H 7D KC 2S",
+        "KD KS 7H 2D 5C",
+        "6S 6D 6H 6C KS",
+        "3C 4H 5D 6C 7S",
+        "KC KH 7D 7C 5S"
+    );
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStoreColumnsAcrossChunks() {
+        final var store = HandStore.allocate(4);
+        fill(store);
+
+        Assertions.assertEquals(HANDS.size(), store.size());
+
+        for (int row = 0; row < HANDS.size(); row++) {
+            final var hand = new PokerHand(HANDS.get(row));
+
+            Assertions.assertEquals(hand.getStrength(), store.getStrength(row));
+            Assertions.assertEquals(hand.getHandType(), store.getHandType(row));
+            Assertions.assertEquals(hand.getStrength(), new PokerHand(store.toText(row)).getStrength());
+        }
+    }
+
+    @Test
+    void shouldFilterAndCountByType() {
+        final var store = HandStore.allocate(4);
+        fill(store);
+
+        final var pairs = new ArrayList<Long>();
+        store.forEachOfType(HandType.PAIR, pairs::add);
+
+        Assertions.assertEquals(List.of(0L, 3L), pairs);
+
+        final var counts = store.countByType();
+
+        Assertions.assertEquals(2, counts[HandType.PAIR.ordinal()]);
+        Assertions.assertEquals(1, counts[HandType.STRAIGHT_FLUSH.ordinal()]);
+        Assertions.assertEquals(0, counts[HandType.FLUSH.ordinal()]);
+    }
+
+    @Test
+    void shouldIterateSortedStably() {
+        final var store = HandStore.allocate(4);
+        fill(store);
+
+        final var ascending = new ArrayList<Long>();
+        store.forEachSorted(false, ascending::add);
+        final var descending = new ArrayList<Long>();
+        store.forEachSorted(true, descending::add);
+
+        Assertions.assertEquals(List.of(2L, 0L, 3L, 6L, 5L, 4L, 1L), ascending);
+        Assertions.assertEquals(List.of(1L, 4L, 5L, 6L, 0L, 3L, 2L), descending);
+    }
+
+    @Test
+    void shouldReopenPersistedStore() throws IOException {
+        final var path = directory.resolve("hands.store");
+
+        try (final var store = HandStore.create(path, 4)) {
+            fill(store);
+        }
+
+        try (final var store = HandStore.open(path)) {
+            Assertions.assertEquals(HANDS.size(), store.size());
+            Assertions.assertEquals("6S 6D 6H 6C KS", store.toText(4));
+
+            store.add(new PokerHand("TS JS QS KS AS"));
+        }
+
+        try (final var store = HandStore.open(path)) {
+            Assertions.assertEquals(HANDS.size() + 1, store.size());
+            Assertions.assertEquals(HandType.ROYAL_FLASH, store.getHandType(HANDS.size()));
+        }
+    }
+
+    @Test
+    void shouldRejectCorruptChunkSize() throws IOException {
+        final var path = directory.resolve("hands.store");
+
+        try (final var store = HandStore.create(path, 4)) {
+            fill(store);
+        }
+
+        try (final var channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, 3), 8);
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandStore.open(path));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandStore.create(path, 3));
+    }
+
+    @Test
+    void shouldNotCreateFileForInvalidChunkSize() {
+        final var path = directory.resolve("invalid.store");
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> HandStore.create(path, 3));
+        Assertions.assertFalse(Files.exists(path));
+    }
+
+    private static void fill(final HandStore store) {
+        for (final String hand : HANDS) {
+            store.add(new PokerHand(hand));
+        }
+    }
+}
@@ -117,6 +117,24 @@ class HandTypeTest {
         Assertions.assertEquals(straightFlash2.compareTo(straightFlash1), 1);
     }
 
+    @Test
+    void testStrengthComparesAllKickers() {
+        final var pair1 = new PokerHand("KC KH 7D 5C 2S");
+        final var pair2 = new PokerHand("KD KS 7H 5D 3S");
+        final var twoPairs1 = new PokerHand("KC KH 8D 8C 2S");
+        final var twoPairs2 = new PokerHand("QC QH JD JC AS");
+
+        Assertions.assertEquals(pair1.compareTo(pair2), -1);
+        Assertions.assertEquals(twoPairs1.compareTo(twoPairs2), 1);
+        Assertions.assertEquals(HandType.compareSameHands(pair2, pair1), 1);
+    }
+
+    @Test
+    void testRepeatedCardsAreNotFlush() {
+        Assertions.assertEquals(HandType.PAIR, new PokerHand("KC KC QC JC 2C").getHandType());
+        Assertions.assertEquals(HandType.HIGH_CARD, new PokerHand("KC KC KC KC KC").getHandType());
+        Assertions.assertEquals(HandType.FLUSH, new PokerHand("AC 2C 3C 4C 5C").getHandType());
+    }
 
     @Test
     void shouldSortByHand() {
@@ -132,6 +150,62 @@ class HandTypeTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void shouldSortInBatch() {
+        final var expected = testData().stream().map(it -> it.data.toString()).collect(Collectors.toList());
+        final var inputs = List.of(
+            "TS JS QS KS AS",
+            "KC KH 7D 7C 5S",
+            "2S 3S 4S 5S 6S",
+            "KC QC 9C 8C 2C",
+            "TC 4H 7D KC 2S",
+            "KC KH KD 7C 7C",
+            "3C 4H 5D 6C 7S",
+            "KC KH 7D 2C 5S",
+            "6S 6D 6H 6C KS",
+            "KC KH KD 7C 5S"
+        );
+
+        final var actual = PokerHands.sort(inputs).stream().map(PokerHand::toString).collect(Collectors.toList());
+
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldKeepInputOrderOfEqualHands() {
+        final var strengths = PokerHands.strengths(new int[] {
+            CardCode.index(12, 0), CardCode.index(11, 0), CardCode.index(3, 1), CardCode.index(2, 2), CardCode.index(0, 3),
+            CardCode.index(0, 0), CardCode.index(1, 0), CardCode.index(2, 0), CardCode.index(3, 0), CardCode.index(4, 0),
+            CardCode.index(12, 1), CardCode.index(11, 1), CardCode.index(3, 2), CardCode.index(2, 3), CardCode.index(0, 0)
+        });
+
+        Assertions.assertArrayEquals(new int[] {0, 2, 1}, PokerHands.sortedOrder(strengths));
+    }
+
+    @Test
+    void shouldRadixSortByHand() {
+        final var expected = testData().stream().map(it -> it.data).collect(Collectors.toList());
+        final var shuffled = new ArrayList<>(List.copyOf(expected));
+
+        Collections.shuffle(shuffled);
+
+        Assertions.assertEquals(expected, StrengthSorter.sort(shuffled, false));
+
+        final var descending = StrengthSorter.sort(shuffled, true);
+        Collections.reverse(descending);
+
+        Assertions.assertEquals(expected, descending);
+    }
+
+    @Test
+    void shouldRadixSortStably() {
+        final var strengths = new int[] {5 << 20, 1 << 20, 5 << 20, 10 << 20, 1 << 20};
+
+        Assertions.assertArrayEquals(new int[] {1, 4, 0, 2, 3}, StrengthSorter.sortedOrder(strengths, false));
+        Assertions.assertArrayEquals(new int[] {3, 0, 2, 1, 4}, StrengthSorter.sortedOrder(strengths, true));
+        Assertions.assertArrayEquals(new int[] {3, 0, 2, 1, 4}, StrengthSorter.sortedOrder(i -> strengths[i], 5, true));
+    }
+
     private static Stream<HandTypeTestEntry> shouldGetHandTypeTest() {
         return testData().stream();
     }
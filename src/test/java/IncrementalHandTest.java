@@ -0,0 +1,59 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class IncrementalHandTest {
+
+    @Test
+    void shouldReportBestHandOnEveryStreet() {
+        final var hand = new IncrementalHand(CardMask.parse("AS KS"));
+
+        Assertions.assertEquals(HandType.HIGH_CARD, hand.getHandType());
+
+        hand.addAll(CardMask.parse("QS 2D KD"));
+        Assertions.assertEquals(HandType.PAIR, hand.getHandType());
+
+        hand.add(new Card(CardRating.JACK, CardSuit.SPADES));
+        Assertions.assertEquals(HandType.PAIR, hand.getHandType());
+
+        hand.addAll(CardMask.parse("TS"));
+        Assertions.assertEquals(HandType.ROYAL_FLASH, hand.getHandType());
+        Assertions.assertEquals(SevenCardEvaluator.evaluate(hand.getMask()), hand.getStrength());
+
+        hand.removeAll(CardMask.parse("TS"));
+        hand.addAll(CardMask.parse("KH"));
+        Assertions.assertEquals(HandType.THREE_OF_A_KIND, hand.getHandType());
+        Assertions.assertEquals(3, hand.getRatingCount(CardRating.KING));
+    }
+
+    @Test
+    void shouldMatchSevenCardEvaluatorWhileDealingAndUndealing() {
+        final var random = new SplittableRandom(17);
+        final var hand = new IncrementalHand();
+
+        for (int step = 0; step < 200_000; step++) {
+            final var index = random.nextInt(CardCode.CARDS_COUNT);
+
+            if (CardMask.contains(hand.getMask(), index)) {
+                hand.remove(index);
+            } else if (hand.size() < 7) {
+                hand.add(index);
+            }
+
+            Assertions.assertEquals(SevenCardEvaluator.evaluate(hand.getMask()), hand.getStrength());
+        }
+    }
+
+    @Test
+    void shouldRejectRepeatedCards() {
+        final var hand = new IncrementalHand(CardMask.parse("AS KS"));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> hand.addAll(CardMask.parse("AS")));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> hand.removeAll(CardMask.parse("QS")));
+
+        hand.clear();
+        Assertions.assertEquals(0, hand.size());
+        Assertions.assertEquals(CardMask.EMPTY, hand.getMask());
+    }
+}
@@ -0,0 +1,43 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class LazyHandTest {
+
+    @Test
+    void shouldOrderLikePokerHand() {
+        final var random = new SplittableRandom(24);
+
+        for (int sample = 0; sample < 200_000; sample++) {
+            final var first = LazyHand.parse(CardMask.toString(randomHand(random)));
+            final var second = new LazyHand(randomHand(random));
+            final var expected = CardMask.toPokerHand(first.getMask()).compareTo(CardMask.toPokerHand(second.getMask()));
+
+            Assertions.assertEquals(Integer.signum(expected), Integer.signum(first.compareTo(second)));
+            Assertions.assertEquals(HandType.fromStrength(second.getStrength()), second.getHandType());
+        }
+    }
+
+    @Test
+    void shouldDecideDifferentTypesWithoutKickers() {
+        final var flush = LazyHand.parse("KC QC 9C 8C 2C");
+        final var pair = LazyHand.parse("KC KH 7D 2C 5S");
+
+        Assertions.assertTrue(flush.beats(pair));
+        Assertions.assertFalse(pair.beats(flush));
+        Assertions.assertEquals(HandType.FLUSH, flush.getHandType());
+        Assertions.assertEquals(LazyHand.parse("KD KS 7H 2D 5C").compareTo(pair), 0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LazyHand(CardMask.parse("KC KH 7D 2C")));
+    }
+
+    private static long randomHand(final SplittableRandom random) {
+        var mask = CardMask.EMPTY;
+
+        while (CardMask.size(mask) < HandParser.HAND_SIZE) {
+            mask |= CardCode.bit(random.nextInt(CardCode.CARDS_COUNT));
+        }
+
+        return mask;
+    }
+}
@@ -0,0 +1,58 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+class RankTableTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldNumberCombinationsDensely() {
+        final var indexes = new int[RankTable.MAX_CARDS];
+        final var scratch = new int[RankTable.MAX_CARDS];
+        final var random = new SplittableRandom(5);
+
+        Assertions.assertEquals(2_598_960, RankTable.binomial(CardCode.CARDS_COUNT, 5));
+        Assertions.assertEquals(133_784_560, RankTable.binomial(CardCode.CARDS_COUNT, 7));
+
+        RankTable.unrank(0, 7, indexes);
+        Assertions.assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5, 6}, indexes);
+
+        for (int sample = 0; sample < 10_000; sample++) {
+            final var index = random.nextLong(RankTable.binomial(CardCode.CARDS_COUNT, 7));
+
+            RankTable.unrank(index, 7, indexes);
+            Assertions.assertEquals(index, RankTable.indexOf(CardMask.ofIndexes(indexes), scratch));
+        }
+    }
+
+    @Test
+    void shouldPersistAndReloadFiveCardRanks() throws IOException {
+        final var path = directory.resolve("ranks5.bin");
+        final var generated = RankTable.generate(5, path);
+        final var table = RankTable.load(path);
+        final var scratch = new int[RankTable.MAX_CARDS];
+
+        Assertions.assertEquals(7462, table.getRanksCount());
+        Assertions.assertEquals(generated.size(), table.size());
+
+        final var royal = table.getRank(CardMask.parse("TS JS QS KS AS"), scratch);
+        final var pair = table.getRank(CardMask.parse("KC KH 7D 2C 5S"), scratch);
+
+        Assertions.assertEquals(table.getRanksCount() - 1, royal);
+        Assertions.assertEquals(new PokerHand("KC KH 7D 2C 5S").getStrength(), table.getStrength(pair));
+        Assertions.assertEquals(0, table.getRank(CardMask.parse("2S 3H 4D 5C 7S"), scratch));
+    }
+
+    @Test
+    void shouldMatchReferenceOnEveryFiveCardHand() throws IOException {
+        final var table = RankTable.generate(5, directory.resolve("ranks5.bin"));
+
+        Assertions.assertEquals(0, RankTable.verify(5, table));
+    }
+}
@@ -0,0 +1,113 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.SplittableRandom;
+
+class RuleSetTest {
+
+    @Test
+    void shouldKeepClassicStrengths() {
+        final var random = new SplittableRandom(21);
+
+        for (int sample = 0; sample < 100_000; sample++) {
+            final var mask = randomMask(random, CardMask.DECK, 5 + sample % 3);
+
+            Assertions.assertEquals(SevenCardEvaluator.evaluate(mask), RuleSet.CLASSIC.evaluate(mask));
+        }
+    }
+
+    @Test
+    void shouldRankWheelAsLowestStraight() {
+        final var wheel = RuleSet.HOLDEM.evaluate(CardMask.parse("AS 2H 3D 4C 5S"));
+        final var sixHigh = RuleSet.HOLDEM.evaluate(CardMask.parse("2H 3D 4C 5S 6S"));
+        final var steelWheel = RuleSet.HOLDEM.evaluate(CardMask.parse("AS 2S 3S 4S 5S KD"));
+
+        Assertions.assertEquals(HandType.STRAIGHT, RuleSet.HOLDEM.getHandType(wheel));
+        Assertions.assertTrue(wheel < sixHigh);
+        Assertions.assertTrue(wheel > RuleSet.HOLDEM.evaluate(CardMask.parse("AS AH KD QC JS")));
+        Assertions.assertEquals(HandType.STRAIGHT_FLUSH, RuleSet.HOLDEM.getHandType(steelWheel));
+        Assertions.assertEquals(HandType.HIGH_CARD, RuleSet.CLASSIC.getHandType(RuleSet.CLASSIC.evaluate(CardMask.parse("AS 2H 3D 4C 5S"))));
+    }
+
+    @Test
+    void shouldRankFlushAboveFullHouseInShortDeck() {
+        final var flush = RuleSet.SHORT_DECK.evaluate(CardMask.parse("6S 8S TS QS AS"));
+        final var fullHouse = RuleSet.SHORT_DECK.evaluate(CardMask.parse("KS KH KD 6C 6H"));
+        final var both = RuleSet.SHORT_DECK.evaluate(CardMask.parse("KS KH KD 6S 6H 8S TS QS"));
+        final var wheel = RuleSet.SHORT_DECK.evaluate(CardMask.parse("AS 6H 7D 8C 9S"));
+
+        Assertions.assertTrue(flush > fullHouse);
+        Assertions.assertEquals(HandType.FLUSH, RuleSet.SHORT_DECK.getHandType(both));
+        Assertions.assertEquals(HandType.FULL_HOUSE, RuleSet.SHORT_DECK.getHandType(fullHouse));
+        Assertions.assertEquals(HandType.STRAIGHT, RuleSet.SHORT_DECK.getHandType(wheel));
+        Assertions.assertEquals(36, CardMask.size(RuleSet.SHORT_DECK.getDeck()));
+        Assertions.assertEquals(HandType.FLUSH.getRating(), RuleSet.SHORT_DECK.getRank(HandType.FULL_HOUSE));
+    }
+
+    @Test
+    void shouldUseExactlyTwoHoleCardsInOmaha() {
+        final var board = CardMask.parse("AS KS QS 2D 3C");
+        final var evaluator = new OmahaEvaluator(RuleSet.HOLDEM, board);
+
+        Assertions.assertEquals(HandType.HIGH_CARD, RuleSet.HOLDEM.getHandType(evaluator.evaluate(CardMask.parse("JS 7H 8D 9C"))));
+        Assertions.assertEquals(HandType.PAIR, RuleSet.HOLDEM.getHandType(evaluator.evaluate(CardMask.parse("AH 7H 8D 9C"))));
+        Assertions.assertEquals(
+            HandType.ROYAL_FLASH,
+            RuleSet.HOLDEM.getHandType(evaluator.evaluate(CardMask.parse("JS TS 8D 9C")))
+        );
+        Assertions.assertEquals(
+            HandType.STRAIGHT,
+            RuleSet.HOLDEM.getHandType(evaluator.evaluate(CardMask.parse("4H 5H 8D 9C")))
+        );
+        Assertions.assertThrows(IllegalArgumentException.class, () -> evaluator.evaluate(CardMask.parse("AS 5H 8D 9C")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RuleSet.class)
+    void shouldMatchBestOfAllOmahaCombinations(final RuleSet ruleSet) {
+        final var random = new SplittableRandom(42);
+        // Dealing half the samples from two suits makes flushes and straight flushes common
+        final var twoSuits = ruleSet.getDeck() & CardMask.parse("AS KS QS JS TS 9S 8S 7S 6S 5S 4S 3S 2S AH KH QH JH TH 9H 8H 7H 6H 5H 4H 3H 2H");
+
+        for (int sample = 0; sample < 20_000; sample++) {
+            final var deck = sample % 2 == 0 ? ruleSet.getDeck() : twoSuits;
+            final var board = randomMask(random, deck, 5);
+            final var hole = randomMask(random, deck & ~board, 4);
+            final var holeIndexes = new int[4];
+            final var boardIndexes = new int[5];
+
+            CardMask.toIndexes(hole, holeIndexes, 0);
+            CardMask.toIndexes(board, boardIndexes, 0);
+
+            var expected = 0;
+
+            for (int h1 = 0; h1 < 4; h1++)
+            for (int h2 = h1 + 1; h2 < 4; h2++)
+            for (int b1 = 0; b1 < 5; b1++)
+            for (int b2 = b1 + 1; b2 < 5; b2++)
+            for (int b3 = b2 + 1; b3 < 5; b3++) {
+                expected = Math.max(expected, ruleSet.evaluate(
+                    holeIndexes[h1], holeIndexes[h2], boardIndexes[b1], boardIndexes[b2], boardIndexes[b3]
+                ));
+            }
+
+            Assertions.assertEquals(expected, new OmahaEvaluator(ruleSet, board).evaluate(hole));
+        }
+    }
+
+    private static long randomMask(final SplittableRandom random, final long deck, final int size) {
+        var mask = CardMask.EMPTY;
+
+        while (CardMask.size(mask) < size) {
+            final var index = random.nextInt(CardCode.CARDS_COUNT);
+
+            if (CardMask.contains(deck, index)) {
+                mask |= CardCode.bit(index);
+            }
+        }
+
+        return mask;
+    }
+}
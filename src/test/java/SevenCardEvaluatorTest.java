@@ -0,0 +1,75 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+class SevenCardEvaluatorTest {
+
+    @Test
+    void shouldMatchHandEvaluatorOnEveryFiveCardHand() {
+        for (int c1 = 0; c1 < CardCode.CARDS_COUNT; c1++)
+        for (int c2 = c1 + 1; c2 < CardCode.CARDS_COUNT; c2++)
+        for (int c3 = c2 + 1; c3 < CardCode.CARDS_COUNT; c3++)
+        for (int c4 = c3 + 1; c4 < CardCode.CARDS_COUNT; c4++)
+        for (int c5 = c4 + 1; c5 < CardCode.CARDS_COUNT; c5++) {
+            final var expected = HandEvaluator.evaluateIndexes(c1, c2, c3, c4, c5);
+
+            if (expected != SevenCardEvaluator.evaluate(c1, c2, c3, c4, c5)) {
+                Assertions.fail(CardMask.toString(CardMask.ofIndexes(c1, c2, c3, c4, c5)));
+            }
+        }
+    }
+
+    @Test
+    void shouldPickBestSubsetOfSevenCards() {
+        final var random = new SplittableRandom(7);
+        final var cards = new int[7];
+
+        for (int sample = 0; sample < 200_000; sample++) {
+            var mask = CardMask.EMPTY;
+
+            for (int i = 0; i < cards.length; i++) {
+                do {
+                    cards[i] = random.nextInt(CardCode.CARDS_COUNT);
+                } while (CardMask.contains(mask, cards[i]));
+
+                mask |= CardCode.bit(cards[i]);
+            }
+
+            Assertions.assertEquals(bestOfSubsets(cards), SevenCardEvaluator.evaluate(mask), CardMask.toString(mask));
+        }
+    }
+
+    @Test
+    void shouldClassifyBoardHands() {
+        Assertions.assertEquals(
+            HandType.ROYAL_FLASH,
+            SevenCardEvaluator.getHandType(CardMask.of(new PokerHand("TS JS QS KS AS")) | CardMask.of(CardCode.toCard(0)))
+        );
+        Assertions.assertEquals(
+            HandType.FULL_HOUSE,
+            HandType.fromStrength(SevenCardEvaluator.evaluate(0, 1, 2, 4, 5, 6, 50))
+        );
+    }
+
+    private static int bestOfSubsets(final int[] cards) {
+        var best = 0;
+
+        for (int skipFirst = 0; skipFirst < cards.length; skipFirst++) {
+            for (int skipSecond = skipFirst + 1; skipSecond < cards.length; skipSecond++) {
+                final var subset = new int[5];
+                var size = 0;
+
+                for (int i = 0; i < cards.length; i++) {
+                    if (i != skipFirst && i != skipSecond) {
+                        subset[size++] = cards[i];
+                    }
+                }
+
+                best = Math.max(best, HandEvaluator.evaluateIndexes(subset[0], subset[1], subset[2], subset[3], subset[4]));
+            }
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,70 @@
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class ShowdownSimulatorTest {
+
+    @Test
+    void shouldNameStartingHands() {
+        final var aces = StartingHands.classOf(CardCode.index(12, 0), CardCode.index(12, 1));
+        final var suited = StartingHands.classOf(CardCode.index(11, 2), CardCode.index(12, 2));
+        final var offsuit = StartingHands.classOf(CardCode.index(0, 2), CardCode.index(5, 1));
+        var combinations = 0;
+
+        for (int startingHand = 0; startingHand < StartingHands.CLASSES_COUNT; startingHand++) {
+            combinations += StartingHands.combinationsOf(startingHand);
+        }
+
+        Assertions.assertEquals("AA", StartingHands.nameOf(aces));
+        Assertions.assertEquals("AKs", StartingHands.nameOf(suited));
+        Assertions.assertEquals("72o", StartingHands.nameOf(offsuit));
+        Assertions.assertEquals("22", StartingHands.nameOf(StartingHands.CLASSES_COUNT - 1));
+        Assertions.assertEquals(HandRange.ALL_COMBINATIONS, combinations);
+    }
+
+    @Test
+    void shouldReproduceResultsForAnyThreadsCount() {
+        final SimulationResult single;
+        final SimulationResult parallel;
+
+        try (final var simulator = new ShowdownSimulator(1)) {
+            single = simulator.simulate(6, 100_000, 42);
+        }
+
+        try (final var simulator = new ShowdownSimulator(4)) {
+            parallel = simulator.simulate(6, 100_000, 42);
+        }
+
+        for (int startingHand = 0; startingHand < StartingHands.CLASSES_COUNT; startingHand++) {
+            Assertions.assertEquals(single.getDealt(startingHand), parallel.getDealt(startingHand));
+            Assertions.assertEquals(single.getWins(startingHand), parallel.getWins(startingHand));
+            Assertions.assertEquals(single.getTies(startingHand), parallel.getTies(startingHand));
+            Assertions.assertEquals(single.getEquity(startingHand), parallel.getEquity(startingHand));
+        }
+    }
+
+    @Test
+    void shouldSettleEveryPot() {
+        try (final var simulator = new ShowdownSimulator(2)) {
+            final var result = simulator.simulate(2, 200_000, 7);
+            var dealt = 0L;
+            var pots = 0.0;
+            var bestEquity = 0.0;
+            var best = -1;
+
+            for (int startingHand = 0; startingHand < StartingHands.CLASSES_COUNT; startingHand++) {
+                dealt += result.getDealt(startingHand);
+                pots += result.getEquity(startingHand) * result.getDealt(startingHand);
+
+                if (result.getEquity(startingHand) > bestEquity) {
+                    bestEquity = result.getEquity(startingHand);
+                    best = startingHand;
+                }
+            }
+
+            Assertions.assertEquals(400_000, dealt);
+            Assertions.assertEquals(200_000, pots, 1e-6);
+            Assertions.assertEquals("AA", StartingHands.nameOf(best));
+            Assertions.assertEquals(0.85, bestEquity, 0.03);
+        }
+    }
+}
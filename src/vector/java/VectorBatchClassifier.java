@@ -0,0 +1,73 @@
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link BatchClassifier}, built by the {@code vector} profile.
+ *
+ * <p>Every step of the scalar classification becomes a lane-wise operation or mask, and the
+ * category is selected by blends from the weakest to the strongest. JDK 17 has no lane-wise bit
+ * count, so distinct ratings are counted with a SWAR population count. The tail that does not
+ * fill a vector is classified by the scalar loop.
+ */
+final class VectorBatchClassifier implements BatchClassifier.Columns {
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+    private static final int ROYAL_RATINGS = 0x1F << (CardRating.ACE.ordinal() - 4);
+
+    @Override
+    public void classify(
+        final int[] spades,
+        final int[] hearts,
+        final int[] diamonds,
+        final int[] clubs,
+        final int[] handTypes,
+        final int count
+    ) {
+        final var bound = SPECIES.loopBound(count);
+        var hand = 0;
+
+        for (; hand < bound; hand += SPECIES.length()) {
+            final var s = IntVector.fromArray(SPECIES, spades, hand);
+            final var h = IntVector.fromArray(SPECIES, hearts, hand);
+            final var d = IntVector.fromArray(SPECIES, diamonds, hand);
+            final var c = IntVector.fromArray(SPECIES, clubs, hand);
+            final var ratings = s.or(h).or(d).or(c);
+            final var distinct = bitCount(ratings);
+
+            final var flush = ratings.eq(s).or(ratings.eq(h)).or(ratings.eq(d)).or(ratings.eq(c));
+            final var straight = ratings.eq(ratings.and(ratings.neg()).mul(0x1F));
+            final var straightFlush = flush.and(straight);
+            final var trips = s.and(h).and(d)
+                .or(s.and(h).and(c))
+                .or(s.and(d).and(c))
+                .or(h.and(d).and(c))
+                .compare(VectorOperators.NE, 0);
+            final var quads = s.and(h).and(d).and(c).compare(VectorOperators.NE, 0);
+
+            final var fiveRatings = IntVector.broadcast(SPECIES, HandType.HIGH_CARD.ordinal())
+                .blend(HandType.STRAIGHT.ordinal(), straight)
+                .blend(HandType.FLUSH.ordinal(), flush)
+                .blend(HandType.STRAIGHT_FLUSH.ordinal(), straightFlush)
+                .blend(HandType.ROYAL_FLASH.ordinal(), straightFlush.and(ratings.eq(ROYAL_RATINGS)));
+            final var threeRatings = IntVector.broadcast(SPECIES, HandType.TWO_PAIRS.ordinal())
+                .blend(HandType.THREE_OF_A_KIND.ordinal(), trips);
+
+            IntVector.broadcast(SPECIES, HandType.FULL_HOUSE.ordinal())
+                .blend(HandType.FOUR_OF_A_KIND.ordinal(), quads)
+                .blend(threeRatings, distinct.eq(3))
+                .blend(HandType.PAIR.ordinal(), distinct.eq(4))
+                .blend(fiveRatings, distinct.eq(5))
+                .intoArray(handTypes, hand);
+        }
+
+        BatchClassifier.classifyScalar(spades, hearts, diamonds, clubs, handTypes, hand, count);
+    }
+
+    private static IntVector bitCount(final IntVector value) {
+        final var pairs = value.sub(value.lanewise(VectorOperators.LSHR, 1).and(0x55555555));
+        final var nibbles = pairs.and(0x33333333).add(pairs.lanewise(VectorOperators.LSHR, 2).and(0x33333333));
+        final var bytes = nibbles.add(nibbles.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F0F0F);
+
+        return bytes.mul(0x01010101).lanewise(VectorOperators.LSHR, 24);
+    }
+}